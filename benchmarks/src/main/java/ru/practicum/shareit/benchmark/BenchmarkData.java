@@ -0,0 +1,63 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BenchmarkData {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    public static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("user" + id)
+                .email("user" + id + "@mail.com")
+                .build();
+    }
+
+    public static Item item(long id, User owner) {
+        return Item.builder()
+                .id(id)
+                .name("Дрель " + id)
+                .description("Ударная дрель с набором сверл, " + id)
+                .available(id % 3 != 0)
+                .owner(owner)
+                .build();
+    }
+
+    public static Booking booking(long id, Item item, User booker) {
+        return Booking.builder()
+                .id(id)
+                .start(START.plusHours(id))
+                .end(START.plusHours(id + 12))
+                .item(item)
+                .booker(booker)
+                .status(Status.values()[(int) (id % Status.values().length)])
+                .build();
+    }
+
+    public static Comment comment(long id, Item item, User author) {
+        return Comment.builder()
+                .id(id)
+                .text("Отличная вещь, всем рекомендую " + id)
+                .item(item)
+                .author(author)
+                .created(START.plusMinutes(id))
+                .build();
+    }
+
+    public static List<Booking> bookings(int count) {
+        List<Booking> bookings = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            User owner = user(i % 10 + 1);
+            bookings.add(booking(i, item(i, owner), user(i % 10 + 11)));
+        }
+        return bookings;
+    }
+}
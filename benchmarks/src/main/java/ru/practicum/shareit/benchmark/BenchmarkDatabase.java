@@ -0,0 +1,71 @@
+package ru.practicum.shareit.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BenchmarkDatabase {
+    public static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+    public static final String USERNAME = "sa";
+    public static final int USERS_COUNT = 1000;
+    public static final int ITEMS_COUNT = 10000;
+    public static final int BOOKINGS_COUNT = 100000;
+    public static final int COMMENTS_COUNT = 20000;
+
+    private static final int BATCH_SIZE = 5000;
+
+    public static void create() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, USERNAME, "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= USERS_COUNT; i++) {
+            rows.add(new Object[]{i, "user" + i, "user" + i + "@mail.com"});
+        }
+        insert(jdbcTemplate, "insert into users (id, name, email) values (?, ?, ?)", rows);
+        for (int i = 1; i <= ITEMS_COUNT; i++) {
+            rows.add(new Object[]{i, "Дрель " + i, "Ударная дрель с набором сверл, " + i, i % 3 != 0,
+                    ownerOf(i)});
+        }
+        insert(jdbcTemplate, "insert into items (id, name, description, is_available, owner_id) " +
+                "values (?, ?, ?, ?, ?)", rows);
+        for (int i = 1; i <= BOOKINGS_COUNT; i++) {
+            LocalDateTime start = now.minusHours(BOOKINGS_COUNT / 2 - i);
+            rows.add(new Object[]{i, Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(12)),
+                    i % ITEMS_COUNT + 1, bookerOf(i), Status.values()[i % Status.values().length].name()});
+        }
+        insert(jdbcTemplate, "insert into bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "values (?, ?, ?, ?, ?, ?)", rows);
+        for (int i = 1; i <= COMMENTS_COUNT; i++) {
+            rows.add(new Object[]{i, "Отличная вещь, всем рекомендую " + i, i % ITEMS_COUNT + 1, i % USERS_COUNT + 1,
+                    Timestamp.valueOf(now.minusMinutes(COMMENTS_COUNT - i))});
+        }
+        insert(jdbcTemplate, "insert into comments (id, text, item_id, author_id, created) " +
+                "values (?, ?, ?, ?, ?)", rows);
+    }
+
+    public static long ownerOf(long itemId) {
+        return itemId % USERS_COUNT + 1;
+    }
+
+    public static long bookerOf(long bookingId) {
+        return bookingId % USERS_COUNT + 1;
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        rows.clear();
+    }
+}
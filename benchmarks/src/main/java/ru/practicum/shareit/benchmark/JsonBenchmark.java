@@ -0,0 +1,113 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+    private static final int BOOKINGS_PAGE_SIZE = 20;
+    private static final int COMMENTS_COUNT = 10;
+
+    private ObjectWriter bookingWriter;
+    private ObjectWriter bookingListWriter;
+    private ObjectWriter itemWriter;
+    private ObjectReader bookingRequestReader;
+    private ObjectReader itemReader;
+    private BookingResponseDto booking;
+    private List<BookingResponseDto> bookings;
+    private ItemDto item;
+    private String bookingRequestJson;
+    private String itemJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ParameterNamesModule(JsonCreator.Mode.DEFAULT))
+                .build();
+        bookingWriter = mapper.writerFor(BookingResponseDto.class);
+        bookingListWriter = mapper.writerFor(mapper.getTypeFactory()
+                .constructCollectionType(List.class, BookingResponseDto.class));
+        itemWriter = mapper.writerFor(ItemDto.class);
+        bookingRequestReader = mapper.readerFor(BookingRequestDto.class);
+        itemReader = mapper.readerFor(ItemDto.class);
+
+        bookings = BookingMapper.toBookingResponseDto(BenchmarkData.bookings(BOOKINGS_PAGE_SIZE));
+        booking = bookings.get(0);
+        User owner = BenchmarkData.user(1);
+        Item entity = BenchmarkData.item(1, owner);
+        List<CommentDto> comments = new ArrayList<>();
+        for (long i = 1; i <= COMMENTS_COUNT; i++) {
+            comments.add(CommentMapper.toCommentDto(BenchmarkData.comment(i, entity, BenchmarkData.user(i + 1))));
+        }
+        item = ItemMapper.toItemDto(entity).toBuilder()
+                .lastBooking(BookingMapper.toBookingShortDto(BenchmarkData.booking(1, entity, BenchmarkData.user(2))))
+                .nextBooking(BookingMapper.toBookingShortDto(BenchmarkData.booking(2, entity, BenchmarkData.user(3))))
+                .comments(comments)
+                .build();
+        bookingRequestJson = mapper.writeValueAsString(BookingRequestDto.builder()
+                .start(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .end(LocalDateTime.of(2024, 1, 2, 12, 0))
+                .itemId(1L)
+                .build());
+        itemJson = mapper.writeValueAsString(ItemMapper.toItemDto(entity));
+    }
+
+    @Benchmark
+    public String writeBookingResponseDto() throws JsonProcessingException {
+        return bookingWriter.writeValueAsString(booking);
+    }
+
+    @Benchmark
+    public String writeBookingResponseDtoPage() throws JsonProcessingException {
+        return bookingListWriter.writeValueAsString(bookings);
+    }
+
+    @Benchmark
+    public String writeItemDto() throws JsonProcessingException {
+        return itemWriter.writeValueAsString(item);
+    }
+
+    @Benchmark
+    public BookingRequestDto readBookingRequestDto() throws JsonProcessingException {
+        return bookingRequestReader.readValue(bookingRequestJson);
+    }
+
+    @Benchmark
+    public ItemDto readItemDto() throws JsonProcessingException {
+        return itemReader.readValue(itemJson);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private Item item;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkData.user(1);
+        item = BenchmarkData.item(1, owner);
+        comment = BenchmarkData.comment(1, item, BenchmarkData.user(2));
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> bookingResponseDtoList(Bookings state) {
+        return BookingMapper.toBookingResponseDto(state.bookings);
+    }
+
+    @Benchmark
+    public ItemDto itemDto() {
+        return ItemMapper.toItemDto(item);
+    }
+
+    @Benchmark
+    public CommentDto commentDto() {
+        return CommentMapper.toCommentDto(comment);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Bookings {
+        @Param({"1", "20", "100"})
+        private int count;
+
+        private List<Booking> bookings;
+
+        @Setup
+        public void setUp() {
+            bookings = BenchmarkData.bookings(count);
+        }
+    }
+}
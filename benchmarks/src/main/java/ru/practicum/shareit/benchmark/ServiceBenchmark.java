@@ -0,0 +1,105 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.create();
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + BenchmarkDatabase.URL,
+                        "--spring.datasource.username=" + BenchmarkDatabase.USERNAME,
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driverClassName=org.h2.Driver");
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> bookingsByBooker(Ids ids) {
+        return bookingService.getAllByBooker(ids.nextUser(), "ALL", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> bookingsByOwner(Ids ids) {
+        return bookingService.getAllByOwner(ids.nextUser(), "PAST", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BookingResponseDto bookingById(Ids ids) {
+        long bookingId = ids.nextBooking();
+        return bookingService.getById(bookingId, BenchmarkDatabase.bookerOf(bookingId));
+    }
+
+    @Benchmark
+    public List<ItemDto> itemsByOwner(Ids ids) {
+        return itemService.findAll(ids.nextUser(), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ItemDto itemById(Ids ids) {
+        long itemId = ids.nextItem();
+        return itemService.findById(itemId, BenchmarkDatabase.ownerOf(itemId));
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return itemService.search("дрель", 0, PAGE_SIZE);
+    }
+
+    @State(Scope.Thread)
+    public static class Ids {
+        private long sequence;
+
+        long nextUser() {
+            return ++sequence % BenchmarkDatabase.USERS_COUNT + 1;
+        }
+
+        long nextItem() {
+            return ++sequence % BenchmarkDatabase.ITEMS_COUNT + 1;
+        }
+
+        long nextBooking() {
+            return ++sequence % BenchmarkDatabase.BOOKINGS_COUNT + 1;
+        }
+    }
+}
@@ -1,33 +1,28 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerTransport;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(ServerTransport transport) {
+        super(transport, API_PREFIX);
     }
 
-    public ResponseEntity<Object> getAllByBooker(long userId, BookingState state, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByBooker(long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -36,7 +31,7 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getAllByOwner(long userId, BookingState state, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwner(long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -45,16 +40,38 @@ public class BookingClient extends BaseClient {
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> create(long userId, BookingRequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<Object>> getPageByBooker(long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getPageByOwner(long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/owner?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> create(long userId, BookingRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getById(long userId, Long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getById(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> approve(Long bookingId, Long userId, Boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> approve(Long bookingId, Long userId, Boolean approved) {
         Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
     }
-}
\ No newline at end of file
+
+    public CompletableFuture<ResponseEntity<Object>> approveAll(long userId, List<BookingDecisionDto> decisions) {
+        return patch("/approve", userId, decisions);
+    }
+}
@@ -7,12 +7,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -20,61 +24,67 @@ import javax.validation.constraints.PositiveOrZero;
 @Slf4j
 @Validated
 public class BookingController {
+    private static final int MAX_DECISIONS = 1000;
     private final BookingClient bookingClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllByBooker(@RequestHeader("X-Sharer-User-Id") long userId,
+    public CompletableFuture<ResponseEntity<Object>> getAllByBooker(@RequestHeader("X-Sharer-User-Id") long userId,
                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                              @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        log.info("Пришел /GET запрос на получение списка всех бронирований для пользователя с id {}, и с параметром {}",
+        log.debug("Пришел /GET запрос на получение списка всех бронирований для пользователя с id {}, и с параметром {}",
                 userId, state);
-        ResponseEntity<Object> bookings = bookingClient.getAllByBooker(userId, state, from, size);
-        log.info("Ответ отправлен {}", bookings);
-        return bookings;
+        return cursor == null
+                ? bookingClient.getAllByBooker(userId, state, from, size)
+                : bookingClient.getPageByBooker(userId, state, cursor, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllByOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwner(@RequestHeader("X-Sharer-User-Id") long userId,
                                                 @RequestParam(name = "state", defaultValue = "all") String stateParam,
                                                 @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                                @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        log.info("Пришел /GET запрос на получение списка всех бронирований для владельца с id {}, и с параметром {}",
+        log.debug("Пришел /GET запрос на получение списка всех бронирований для владельца с id {}, и с параметром {}",
                 userId, state);
-        ResponseEntity<Object> bookings = bookingClient.getAllByOwner(userId, state, from, size);
-        log.info("Ответ отправлен {}", bookings);
-        return bookings;
+        return cursor == null
+                ? bookingClient.getAllByOwner(userId, state, from, size)
+                : bookingClient.getPageByOwner(userId, state, cursor, size);
     }
 
         @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> approve(@PathVariable Long bookingId, @RequestHeader("X-Sharer-User-Id") Long userId,
+    public CompletableFuture<ResponseEntity<Object>> approve(@PathVariable Long bookingId, @RequestHeader("X-Sharer-User-Id") Long userId,
                                       @RequestParam Boolean approved) {
-        log.info("Пришел /POST запрос на принятие или отклонение аренды от пользователя с id {} к предмету с id {}",
+        log.debug("Пришел /POST запрос на принятие или отклонение аренды от пользователя с id {} к предмету с id {}",
                 userId, bookingId);
-        ResponseEntity<Object> booking = bookingClient.approve(bookingId, userId, approved);
-        log.info("Ответ отправлен {}", booking);
-        return booking;
+        return bookingClient.approve(bookingId, userId, approved);
+    }
+
+    @PatchMapping("/approve")
+    public CompletableFuture<ResponseEntity<Object>> approveAll(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                @RequestBody @Size(min = 1, max = MAX_DECISIONS)
+                                                                List<@Valid BookingDecisionDto> decisions) {
+        log.debug("Пришел /PATCH запрос на принятие или отклонение {} аренд от пользователя с id {}",
+                decisions.size(), userId);
+        return bookingClient.approveAll(userId, decisions);
     }
 
     @PostMapping
-    public ResponseEntity<Object> create(@Valid @RequestBody BookingRequestDto bookingDto,
+    public CompletableFuture<ResponseEntity<Object>> create(@Valid @RequestBody BookingRequestDto bookingDto,
                                            @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел POST запрос на добавление новой аренды {} от пользователя с id {}", bookingDto, userId);
-        ResponseEntity<Object> booking = bookingClient.create(userId, bookingDto);
-        log.info("Ответ отправлен {}", booking);
-        return booking;
+        log.debug("Пришел POST запрос на добавление новой аренды {} от пользователя с id {}", bookingDto, userId);
+        return bookingClient.create(userId, bookingDto);
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getById(@RequestHeader("X-Sharer-User-Id") long userId,
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader("X-Sharer-User-Id") long userId,
                                              @PathVariable Long bookingId) {
-        log.info("Пришел /GET запрос на получение данных об аренде с id {} от пользователя {}", bookingId, userId);
-        ResponseEntity<Object> booking = bookingClient.getById(userId, bookingId);
-        log.info("Ответ отправлен {}", booking);
-        return booking;
+        log.debug("Пришел /GET запрос на получение данных об аренде с id {} от пользователя {}", bookingId, userId);
+        return bookingClient.getById(userId, bookingId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+@ConditionalOnProperty(name = "shareit-server.http.mode", havingValue = "blocking", matchIfMissing = true)
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager shareitServerConnectionManager(HttpClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(properties.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient shareitServerHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                       HttpClientProperties properties) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+                .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(properties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory shareitServerRequestFactory(CloseableHttpClient httpClient) {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManagerMetricsBinder shareitServerConnectionPoolMetrics(
+            PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "shareit-server");
+    }
+
+    @Bean
+    @Primary
+    public ServerTransport shareitServerTransport(@Value("${shareit-server.url}") String serverUrl,
+                                                  RestTemplateBuilder builder,
+                                                  ClientHttpRequestFactory requestFactory,
+                                                  MeterRegistry meterRegistry) {
+        return new MeteredServerTransport(new RestTemplateServerTransport(
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl))
+                        .requestFactory(() -> requestFactory)
+                        .build()
+        ), meterRegistry);
+    }
+}
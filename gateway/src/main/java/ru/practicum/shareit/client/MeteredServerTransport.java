@@ -0,0 +1,80 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Замеряет каждый запрос шлюза к серверу таймером {@value #METRIC_NAME} с тегами метода, шаблона пути и статуса.
+ * Клиенты склеивают идентификаторы прямо в путь, поэтому числовые сегменты заменяются на {@code {id}},
+ * а строка запроса отбрасывается: иначе каждый id дал бы отдельный временной ряд.
+ */
+public class MeteredServerTransport implements ServerTransport {
+    public static final String METRIC_NAME = "shareit.server.client.requests";
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final ServerTransport delegate;
+    private final MeterRegistry registry;
+
+    public MeteredServerTransport(ServerTransport delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                                  @Nullable Map<String, Object> parameters,
+                                                                  @Nullable T body) {
+        Timer.Sample sample = Timer.start(registry);
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = delegate.exchange(method, path, userId, parameters, body);
+        } catch (RuntimeException e) {
+            sample.stop(timer(method, path, "CLIENT_ERROR", "UNKNOWN"));
+            throw e;
+        }
+        return response.whenComplete((result, e) -> {
+            if (result != null) {
+                sample.stop(timer(method, path, String.valueOf(result.getStatusCodeValue()),
+                        outcome(result.getStatusCodeValue())));
+            } else {
+                sample.stop(timer(method, path, "CLIENT_ERROR", "UNKNOWN"));
+            }
+        });
+    }
+
+    static String uriTemplate(String path) {
+        int query = path.indexOf('?');
+        String withoutQuery = query < 0 ? path : path.substring(0, query);
+        String template = NUMERIC_SEGMENT.matcher(withoutQuery).replaceAll("/{id}");
+        return template.isEmpty() ? "/" : template;
+    }
+
+    private Timer timer(HttpMethod method, String path, String status, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Запросы шлюза к ShareIt-серверу")
+                .tags(Tags.of("method", method.name(), "uri", uriTemplate(path), "status", status,
+                        "outcome", outcome))
+                .register(registry);
+    }
+
+    private static String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        if (status >= 300) {
+            return "REDIRECTION";
+        }
+        return status >= 200 ? "SUCCESS" : "INFORMATIONAL";
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+@ConditionalOnProperty(name = "shareit-server.http.mode", havingValue = "reactive")
+public class ReactiveClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareitServerConnectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder("shareit-server")
+                .maxConnections(properties.getMaxTotal())
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleTimeout())
+                .evictInBackground(properties.getIdleTimeout())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient shareitServerWebClient(@Value("${shareit-server.url}") String serverUrl,
+                                            WebClient.Builder builder,
+                                            ConnectionProvider shareitServerConnectionProvider,
+                                            HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(shareitServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+        return builder
+                .baseUrl(serverUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public ServerTransport shareitServerTransport(WebClient shareitServerWebClient, MeterRegistry meterRegistry) {
+        return new MeteredServerTransport(new WebClientServerTransport(shareitServerWebClient), meterRegistry);
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class RestTemplateServerTransport implements ServerTransport {
+    private final RestTemplate rest;
+
+    @Override
+    public <T> CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                                  @Nullable Map<String, Object> parameters,
+                                                                  @Nullable T body) {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, ServerResponses.defaultHeaders(userId));
+
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return CompletableFuture.completedFuture(ServerResponses.toGatewayResponse(e.getStatusCode(),
+                    e.getResponseHeaders(), e.getResponseBodyAsByteArray()));
+        }
+        return CompletableFuture.completedFuture(ServerResponses.toGatewayResponse(
+                shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody()));
+    }
+}
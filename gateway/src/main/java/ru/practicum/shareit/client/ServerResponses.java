@@ -0,0 +1,53 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class ServerResponses {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade", "content-length");
+
+    private ServerResponses() {
+    }
+
+    public static HttpHeaders defaultHeaders(@Nullable Long userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+        return headers;
+    }
+
+    public static ResponseEntity<Object> toGatewayResponse(HttpStatus status, @Nullable HttpHeaders headers,
+                                                           @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status)
+                .headers(forwardedHeaders(headers));
+
+        if (body != null) {
+            return responseBuilder.body(body);
+        }
+
+        return responseBuilder.build();
+    }
+
+    static HttpHeaders forwardedHeaders(@Nullable HttpHeaders headers) {
+        HttpHeaders forwarded = new HttpHeaders();
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    forwarded.addAll(name, values);
+                }
+            });
+        }
+        return forwarded;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Обмены с сервером, при которых тело проходит через шлюз потоком и целиком в памяти не оказывается.
+ */
+@RequiredArgsConstructor
+public class ServerStreams {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final WebClient webClient;
+
+    /**
+     * Пересылает тело запроса на сервер как есть, с исходным {@code Content-Type}. Тело читается блоками по
+     * {@value #BUFFER_SIZE} байт по мере отправки; чтение блокирует, поэтому идет на отдельном планировщике.
+     */
+    public CompletableFuture<ResponseEntity<Object>> upload(String path, long userId, MediaType contentType,
+                                                            InputStream body) {
+        Flux<DataBuffer> buffers = DataBufferUtils.readInputStream(() -> body, DefaultDataBufferFactory.sharedInstance,
+                        BUFFER_SIZE)
+                .subscribeOn(Schedulers.boundedElastic());
+        return webClient.post()
+                .uri(path)
+                .headers(headers -> {
+                    headers.addAll(ServerResponses.defaultHeaders(userId));
+                    headers.setContentType(contentType);
+                })
+                .body(BodyInserters.fromDataBuffers(buffers))
+                .exchangeToMono(response -> response.toEntity(byte[].class))
+                .map(response -> ServerResponses.toGatewayResponse(response.getStatusCode(), response.getHeaders(),
+                        response.getBody()))
+                .toFuture();
+    }
+
+    /**
+     * Запрашивает у сервера ответ, который может не поместиться в память шлюза, и отдает его клиенту потоком:
+     * блоки ответа пишутся клиенту по мере получения. {@code Accept} клиента пересылается серверу, так что формат
+     * ответа выбирает сервер; статус и заголовки ответа сервера передаются клиенту как есть.
+     */
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> download(String path, @Nullable String accept) {
+        return webClient.get()
+                .uri(path)
+                .headers(headers -> {
+                    headers.addAll(ServerResponses.defaultHeaders(null));
+                    if (accept != null) {
+                        headers.set(HttpHeaders.ACCEPT, accept);
+                    }
+                })
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(response -> ResponseEntity.status(response.getStatusCode())
+                        .headers(ServerResponses.forwardedHeaders(response.getHeaders()))
+                        .<StreamingResponseBody>body(out -> write(response.getBody(), out)))
+                .toFuture();
+    }
+
+    private static void write(Flux<DataBuffer> body, OutputStream out) {
+        DataBufferUtils.write(body, out)
+                .map(DataBufferUtils::release)
+                .blockLast();
+    }
+}
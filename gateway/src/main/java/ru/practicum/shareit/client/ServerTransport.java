@@ -0,0 +1,13 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface ServerTransport {
+    <T> CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                           @Nullable Map<String, Object> parameters, @Nullable T body);
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Клиент для долгих обменов с сервером: long-poll запросов ({@code GET /requests/matches}), которые сервер держит
+ * открытыми до {@code shareit.matching.poll-timeout}, и потоковой передачи тел, которые шлюз не собирает в памяти.
+ * Клиент всегда неблокирующий и со своим пулом соединений, независимо от {@code shareit-server.http.mode}:
+ * ожидающий запрос не занимает поток Tomcat, а долгие обмены вместе не могут занять соединения, нужные остальным
+ * вызовам сервера. Сверх {@code streaming-max-connections} долгих обменов новые ждут соединения не дольше
+ * {@code connection-request-timeout}.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class StreamingClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareitServerStreamingConnectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder("shareit-server-streaming")
+                .maxConnections(properties.getStreamingMaxConnections())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleTimeout())
+                .evictInBackground(properties.getIdleTimeout())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient shareitServerStreamingWebClient(@Value("${shareit-server.url}") String serverUrl,
+                                                     WebClient.Builder builder,
+                                                     ConnectionProvider shareitServerStreamingConnectionProvider,
+                                                     HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(shareitServerStreamingConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+        return builder.clone()
+                .baseUrl(serverUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public ServerTransport shareitServerLongPollTransport(WebClient shareitServerStreamingWebClient,
+                                                          MeterRegistry meterRegistry) {
+        return new MeteredServerTransport(new WebClientServerTransport(shareitServerStreamingWebClient),
+                meterRegistry);
+    }
+
+    @Bean
+    public ServerStreams shareitServerStreams(WebClient shareitServerStreamingWebClient) {
+        return new ServerStreams(shareitServerStreamingWebClient);
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class WebClientServerTransport implements ServerTransport {
+    private final WebClient webClient;
+
+    @Override
+    public <T> CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                                  @Nullable Map<String, Object> parameters,
+                                                                  @Nullable T body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(ServerResponses.defaultHeaders(userId)));
+
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+
+        return requestWithBody
+                .exchangeToMono(response -> response.toEntity(byte[].class))
+                .map(response -> ServerResponses.toGatewayResponse(response.getStatusCode(), response.getHeaders(),
+                        response.getBody()))
+                .toFuture();
+    }
+}
@@ -10,6 +10,7 @@ import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
 
+import javax.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -48,4 +49,12 @@ public class ErrorHandler {
     public ErrorResponse handleIllegalArgumentException(final IllegalArgumentException e) {
         return new ErrorResponse(e.getMessage());
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public List<ErrorResponse> handleConstraintViolationException(final ConstraintViolationException e) {
+        return e.getConstraintViolations().stream()
+                .map(violation -> new ErrorResponse(violation.getMessage(), violation.getPropertyPath().toString()))
+                .collect(Collectors.toList());
+    }
 }
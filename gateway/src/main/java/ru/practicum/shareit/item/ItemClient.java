@@ -1,33 +1,32 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerStreams;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
+    private final ServerStreams serverStreams;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(ServerTransport transport, ServerStreams serverStreams) {
+        super(transport, API_PREFIX);
+        this.serverStreams = serverStreams;
     }
 
-    public ResponseEntity<Object> findAll(Long userId, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> findAll(Long userId, Integer from, Integer size) {
         Map<String, Object> parameter = Map.of(
                 "from", from,
                 "size", size
@@ -35,19 +34,23 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameter);
     }
 
-    public ResponseEntity<Object> findById(Long itemId, Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> findById(Long itemId, Long userId) {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> create(Long userId, ItemRequestDto item) {
+    public CompletableFuture<ResponseEntity<Object>> create(Long userId, ItemRequestDto item) {
         return post("", userId, item);
     }
 
-    public ResponseEntity<Object> update(Long itemId, Long userId, ItemRequestDto item) {
+    public CompletableFuture<ResponseEntity<Object>> importItems(long userId, MediaType contentType, InputStream body) {
+        return serverStreams.upload(API_PREFIX + "/bulk", userId, contentType, body);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> update(Long itemId, Long userId, ItemRequestDto item) {
         return patch("/" + itemId, userId, item);
     }
 
-    public ResponseEntity<Object> search(String text, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> search(String text, Integer from, Integer size) {
         Map<String, Object> parameter = Map.of(
                 "text", text,
                 "from", from,
@@ -56,7 +59,7 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}&from={from}&size={size}", null, parameter);
     }
 
-    public ResponseEntity<Object> addComment(Long itemId, Long userId, CommentRequestDto comment) {
+    public CompletableFuture<ResponseEntity<Object>> addComment(Long itemId, Long userId, CommentRequestDto comment) {
         return post("/" + itemId + "/comment", userId, comment);
     }
 }
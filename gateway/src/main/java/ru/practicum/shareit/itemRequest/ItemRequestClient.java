@@ -1,40 +1,39 @@
 package ru.practicum.shareit.itemRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestRequestDto;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
+    private final ServerTransport longPollTransport;
+
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemRequestClient(ServerTransport transport,
+                             @Qualifier("shareitServerLongPollTransport") ServerTransport longPollTransport) {
+        super(transport, API_PREFIX);
+        this.longPollTransport = longPollTransport;
     }
 
-    public ResponseEntity<Object> create(Long userId, ItemRequestRequestDto itemRequest) {
+    public CompletableFuture<ResponseEntity<Object>> create(Long userId, ItemRequestRequestDto itemRequest) {
         return post("", userId, itemRequest);
     }
 
-    public ResponseEntity<Object> getAllByUser(Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByUser(Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAll(Long userId, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAll(Long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -42,7 +41,23 @@ public class ItemRequestClient extends BaseClient {
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getById(Long requestId, Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getPage(Long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/all?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getMatches(Long userId, Long after) {
+        Map<String, Object> parameters = Map.of(
+                "after", after
+        );
+        return longPollTransport.exchange(HttpMethod.GET, API_PREFIX + "/matches?after={after}", userId, parameters,
+                null);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getById(Long requestId, Long userId) {
         return get("/" + requestId, userId);
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestRequestDto;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(path = "/requests")
@@ -16,39 +17,42 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClientClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader("X-Sharer-User-Id") Long userId,
+    public CompletableFuture<ResponseEntity<Object>> create(@RequestHeader("X-Sharer-User-Id") Long userId,
                                  @Valid @RequestBody ItemRequestRequestDto itemRequestDto) {
-        log.info("Пришел /POST запрос на создание запроса {} от пользователя с id {}", itemRequestDto, userId);
-        ResponseEntity<Object> itemRequestResponseDto = itemRequestClientClient.create(userId, itemRequestDto);
-        log.info("Ответ отправлен {}", itemRequestResponseDto);
-        return itemRequestResponseDto;
+        log.debug("Пришел /POST запрос на создание запроса {} от пользователя с id {}", itemRequestDto, userId);
+        return itemRequestClientClient.create(userId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUser(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел /GET запрос на получение списка запросов от пользователя с id {}", userId);
-        ResponseEntity<Object> itemRequestResponseDtos = itemRequestClientClient.getAllByUser(userId);
-        log.info("Ответ отправлен {}", itemRequestResponseDtos);
-        return itemRequestResponseDtos;
+    public CompletableFuture<ResponseEntity<Object>> getAllByUser(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.debug("Пришел /GET запрос на получение списка запросов от пользователя с id {}", userId);
+        return itemRequestClientClient.getAllByUser(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll(@RequestParam(defaultValue = "0") int from,
+    public CompletableFuture<ResponseEntity<Object>> getAll(@RequestParam(defaultValue = "0") int from,
                                                @RequestParam(defaultValue = "10") int size,
+                                               @RequestParam(required = false) String cursor,
                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел /GET запрос на получение списка запросов от пользователя с id {} созданных другим пользователем",
+        log.debug("Пришел /GET запрос на получение списка запросов от пользователя с id {} созданных другим пользователем",
                 userId);
-        ResponseEntity<Object> itemRequestResponseDtos = itemRequestClientClient.getAll(userId, from, size);
-        log.info("Ответ отправлен {}", itemRequestResponseDtos);
-        return itemRequestResponseDtos;
+        return cursor == null
+                ? itemRequestClientClient.getAll(userId, from, size)
+                : itemRequestClientClient.getPage(userId, cursor, size);
+    }
+
+    @GetMapping("/matches")
+    public CompletableFuture<ResponseEntity<Object>> getMatches(@RequestParam(defaultValue = "0") long after,
+                                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.debug("Пришел /GET запрос на ожидание подходящих предметов для запросов пользователя с id {} после {}",
+                userId, after);
+        return itemRequestClientClient.getMatches(userId, after);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getById(@PathVariable Long requestId,
+    public CompletableFuture<ResponseEntity<Object>> getById(@PathVariable Long requestId,
                                           @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел /GET запрос на получение запроса по id");
-        ResponseEntity<Object> itemRequestResponseDto = itemRequestClientClient.getById(requestId, userId);
-        log.info("Ответ отправлен {}", itemRequestResponseDto);
-        return itemRequestResponseDto;
+        log.debug("Пришел /GET запрос на получение запроса по id");
+        return itemRequestClientClient.getById(requestId, userId);
     }
 }
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.logging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Сообщает журналу доступа размер ответа сервера в байтах и с вероятностью
+ * {@code shareit.logging.access.payload-sample-rate} пишет это тело целиком. Тело декодируется в строку только для
+ * попавших в выборку запросов.
+ */
+@Slf4j(topic = AccessLogInterceptor.LOGGER + ".payload")
+@ControllerAdvice("ru.practicum.shareit")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.logging.access.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogBodyAdvice implements ResponseBodyAdvice<Object> {
+    private final AccessLogProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        byte[] payload = body instanceof byte[] ? (byte[]) body : null;
+        ((ServletServerHttpRequest) request).getServletRequest()
+                .setAttribute(AccessLogInterceptor.SIZE_ATTRIBUTE, payload != null ? payload.length : "-");
+        if (sampled() && log.isInfoEnabled()) {
+            log.info("{} {} {}", request.getMethodValue(), request.getURI().getPath(),
+                    truncate(payload != null ? new String(payload, StandardCharsets.UTF_8) : body.toString()));
+        }
+        return body;
+    }
+
+    private boolean sampled() {
+        double rate = properties.getPayloadSampleRate();
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private String truncate(String payload) {
+        int limit = properties.getMaxPayloadLength();
+        return payload.length() <= limit ? payload : payload.substring(0, limit) + "...";
+    }
+}
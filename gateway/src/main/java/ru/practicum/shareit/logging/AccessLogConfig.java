@@ -0,0 +1,21 @@
+package ru.practicum.shareit.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(name = "shareit.logging.access.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig implements WebMvcConfigurer {
+    private final AccessLogInterceptor accessLogInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(accessLogInterceptor);
+    }
+}
@@ -1,46 +1,63 @@
 package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerStreams;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
+    private final ServerStreams serverStreams;
+
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+    public UserClient(ServerTransport transport, ServerStreams serverStreams) {
+        super(transport, API_PREFIX);
+        this.serverStreams = serverStreams;
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getAll(@Nullable String accept) {
+        return serverStreams.download(API_PREFIX, accept);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getPage(Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
         );
+        return get("?from={from}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> getALl() {
-        return get("");
+    public CompletableFuture<ResponseEntity<Object>> getPageByCursor(String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> getById(Long id) {
+    public CompletableFuture<ResponseEntity<Object>> getById(Long id) {
         return get("/" + id);
     }
 
-    public ResponseEntity<Object> create(UserRequestDto user) {
+    public CompletableFuture<ResponseEntity<Object>> create(UserRequestDto user) {
         return post("", user);
     }
 
-    public ResponseEntity<Object> update(Long userId, UserRequestDto user) {
+    public CompletableFuture<ResponseEntity<Object>> update(Long userId, UserRequestDto user) {
         return patch("/" + userId, user);
     }
 
-    public ResponseEntity<Object> delete(Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> delete(Long userId) {
         return delete("/" + userId);
     }
 }
@@ -2,11 +2,14 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(path = "/users")
@@ -16,42 +19,47 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
-        log.info("Пришел /GET запрос на получение всех пользователей");
-        ResponseEntity<Object> users = userClient.getALl();
-        log.info("Ответ отправлен {}", users);
-        return users;
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getAll(@RequestHeader(value = HttpHeaders.ACCEPT,
+            required = false) String accept) {
+        log.debug("Пришел /GET запрос на получение всех пользователей в формате {}", accept);
+        return userClient.getAll(accept);
+    }
+
+    @GetMapping(params = {"size", "!cursor"})
+    public CompletableFuture<ResponseEntity<Object>> getPage(@RequestParam(defaultValue = "0") int from,
+                                                             @RequestParam int size) {
+        log.debug("Пришел /GET запрос на получение страницы пользователей from {}, size {}", from, size);
+        return userClient.getPage(from, size);
+    }
+
+    @GetMapping(params = "cursor")
+    public CompletableFuture<ResponseEntity<Object>> getPageByCursor(@RequestParam String cursor,
+                                                                     @RequestParam(defaultValue = "10") int size) {
+        log.debug("Пришел /GET запрос на получение страницы пользователей с курсором {}, size {}", cursor, size);
+        return userClient.getPageByCursor(cursor, size);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(@PathVariable Long id) {
-        log.info("Пришел /GET запрос на получение пользователя по id {}", id);
-        ResponseEntity<Object> user = userClient.getById(id);
-        log.info("Ответ отправлен {}", user);
-        return user;
+    public CompletableFuture<ResponseEntity<Object>> getById(@PathVariable Long id) {
+        log.debug("Пришел /GET запрос на получение пользователя по id {}", id);
+        return userClient.getById(id);
     }
 
     @PostMapping
-    public ResponseEntity<Object> create(@Valid @RequestBody UserRequestDto user) {
-        log.info("Пришел /POST запрос на создание пользователя {}", user);
-        ResponseEntity<Object> createdUser = userClient.create(user);
-        log.info("Ответ отправлен {}", createdUser);
-        return createdUser;
+    public CompletableFuture<ResponseEntity<Object>> create(@Valid @RequestBody UserRequestDto user) {
+        log.debug("Пришел /POST запрос на создание пользователя {}", user);
+        return userClient.create(user);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@RequestBody UserRequestDto user, @PathVariable Long id) {
-        log.info("Пришел /PATCH запрос на изменение данных пользователя с id {}", id);
-        ResponseEntity<Object> updatedUser = userClient.update(id, user);
-        log.info("Ответ отправлен {}", updatedUser);
-        return updatedUser;
+    public CompletableFuture<ResponseEntity<Object>> update(@RequestBody UserRequestDto user, @PathVariable Long id) {
+        log.debug("Пришел /PATCH запрос на изменение данных пользователя с id {}", id);
+        return userClient.update(id, user);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Object> delete(@PathVariable Long id) {
-        log.info("Пришел /DELETE запрос на удаление пользователя с id {}", id);
-        ResponseEntity<Object> deletedUser = userClient.delete(id);
-        log.info("Пользователь {} удален", deletedUser);
-        return deletedUser;
+    public CompletableFuture<ResponseEntity<Object>> delete(@PathVariable Long id) {
+        log.debug("Пришел /DELETE запрос на удаление пользователя с id {}", id);
+        return userClient.delete(id);
     }
 }
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MeteredServerTransportTest {
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void uriTemplateReplacesIdsAndDropsQuery() {
+        assertEquals("/items/{id}", MeteredServerTransport.uriTemplate("/items/42"));
+        assertEquals("/bookings/{id}", MeteredServerTransport.uriTemplate("/bookings/5?approved={approved}"));
+        assertEquals("/items/{id}/comment", MeteredServerTransport.uriTemplate("/items/7/comment"));
+        assertEquals("/items/search", MeteredServerTransport.uriTemplate("/items/search?text={text}"));
+        assertEquals("/requests/all", MeteredServerTransport.uriTemplate("/requests/all?from=0&size=10"));
+        assertEquals("/items/v2", MeteredServerTransport.uriTemplate("/items/v2"));
+        assertEquals("/", MeteredServerTransport.uriTemplate("?from=0"));
+        assertEquals("/", MeteredServerTransport.uriTemplate(""));
+    }
+
+    @Test
+    void recordsStatusAndOutcomeOfResponses() {
+        transport(CompletableFuture.completedFuture(ResponseEntity.ok().build()))
+                .exchange(HttpMethod.GET, "/items/1", 1L, null, null).join();
+        transport(CompletableFuture.completedFuture(ResponseEntity.ok().build()))
+                .exchange(HttpMethod.GET, "/items/2", 1L, null, null).join();
+        transport(CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND).build()))
+                .exchange(HttpMethod.PATCH, "/bookings/3?approved={approved}", 1L, Map.of("approved", true), null)
+                .join();
+
+        assertEquals(2, timer("GET", "/items/{id}", "200", "SUCCESS").count());
+        assertEquals(1, timer("PATCH", "/bookings/{id}", "404", "CLIENT_ERROR").count());
+        assertEquals(2, registry.find(MeteredServerTransport.METRIC_NAME).timers().size());
+    }
+
+    @Test
+    void recordsFailedExchanges() {
+        CompletableFuture<ResponseEntity<Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("connection reset"));
+        ServerTransport throwing = new MeteredServerTransport(new ServerTransport() {
+            @Override
+            public <T> CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String path,
+                                                                          Long userId, Map<String, Object> parameters,
+                                                                          T body) {
+                throw new IllegalArgumentException("bad uri");
+            }
+        }, registry);
+
+        assertThrows(CompletionException.class, () -> transport(failed)
+                .exchange(HttpMethod.POST, "/items", 1L, null, null).join());
+        assertThrows(IllegalArgumentException.class, () -> throwing
+                .exchange(HttpMethod.POST, "/items", 1L, null, null));
+
+        assertEquals(2, timer("POST", "/items", "CLIENT_ERROR", "UNKNOWN").count());
+    }
+
+    private ServerTransport transport(CompletableFuture<ResponseEntity<Object>> response) {
+        return new MeteredServerTransport(new ServerTransport() {
+            @Override
+            public <T> CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String path,
+                                                                          Long userId, Map<String, Object> parameters,
+                                                                          T body) {
+                return response;
+            }
+        }, registry);
+    }
+
+    private Timer timer(String method, String uri, String status, String outcome) {
+        Timer timer = registry.find(MeteredServerTransport.METRIC_NAME)
+                .tags("method", method, "uri", uri, "status", status, "outcome", outcome)
+                .timer();
+        assertNotNull(timer, method + " " + uri + " " + status);
+        return timer;
+    }
+}
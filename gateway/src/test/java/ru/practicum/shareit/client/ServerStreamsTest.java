@@ -0,0 +1,124 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ServerStreamsTest {
+    private MockWebServer server;
+    private ServerStreams serverStreams;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        serverStreams = new ServerStreams(WebClient.builder()
+                .baseUrl("http://" + server.getHostName() + ":" + server.getPort())
+                .build());
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void uploadsBodyAsIsAndReturnsServerResponse() throws InterruptedException {
+        byte[] body = IntStream.range(0, 1000)
+                .mapToObj(i -> "{\"name\":\"Дрель " + i + "\",\"description\":\"Ударная\",\"available\":true}")
+                .collect(Collectors.joining("\n"))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] result = "{\"received\":1000,\"created\":1000,\"failed\":0,\"errors\":[]}"
+                .getBytes(StandardCharsets.UTF_8);
+        server.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(new String(result, StandardCharsets.UTF_8)));
+
+        ResponseEntity<Object> response = serverStreams.upload("/items/bulk", 7L, MediaType.APPLICATION_NDJSON,
+                new ByteArrayInputStream(body)).join();
+
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertEquals("POST", request.getMethod());
+        assertEquals("/items/bulk", request.getPath());
+        assertEquals("7", request.getHeader("X-Sharer-User-Id"));
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, request.getHeader(HttpHeaders.CONTENT_TYPE));
+        assertArrayEquals(body, request.getBody().readByteArray());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(result, (byte[]) response.getBody());
+    }
+
+    @Test
+    void passesServerRejectionThrough() {
+        server.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody("{\"error\":\"Ожидается JSON-массив предметов\"}"));
+
+        ResponseEntity<Object> response = serverStreams.upload("/items/bulk", 7L, MediaType.APPLICATION_JSON,
+                new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))).join();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("{\"error\":\"Ожидается JSON-массив предметов\"}",
+                new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void downloadsBodyInChunksWithClientAccept() throws Exception {
+        String body = IntStream.range(0, 1000)
+                .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"user" + i + "\",\"email\":\"user" + i + "@mail.com\"}\n")
+                .collect(Collectors.joining());
+        server.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                .setChunkedBody(body, 1024));
+
+        ResponseEntity<StreamingResponseBody> response = serverStreams.download("/users",
+                MediaType.APPLICATION_NDJSON_VALUE).join();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, request.getHeader(HttpHeaders.ACCEPT));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertEquals(body, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void downloadPassesServerErrorThrough() throws Exception {
+        server.enqueue(new MockResponse()
+                .setResponseCode(500)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody("{\"error\":\"Ошибка сервера\"}"));
+
+        ResponseEntity<StreamingResponseBody> response = serverStreams.download("/users", null).join();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(MediaType.APPLICATION_JSON_VALUE,
+                server.takeRequest(5, TimeUnit.SECONDS).getHeader(HttpHeaders.ACCEPT));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals("{\"error\":\"Ошибка сервера\"}", out.toString(StandardCharsets.UTF_8));
+    }
+}
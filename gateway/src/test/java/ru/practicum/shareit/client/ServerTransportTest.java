@@ -0,0 +1,135 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ServerTransportTest {
+    private MockWebServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        server.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(HttpClientProperties.Mode.class)
+    void passesStatusHeadersAndBodyThrough(HttpClientProperties.Mode mode) {
+        byte[] body = "[{\"id\":1,\"name\":\"Дрель\"},{\"id\":2,\"name\":\"Пила\"}]".getBytes(StandardCharsets.UTF_8);
+        server.enqueue(new MockResponse()
+                .setResponseCode(201)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setHeader("X-Total-Count", "2")
+                .setHeader("Keep-Alive", "timeout=5")
+                .setChunkedBody(new Buffer().write(body), 8));
+
+        ResponseEntity<Object> response = transport(mode).exchange(HttpMethod.GET, "/items", 1L, null, null).join();
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertArrayEquals(body, (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("2", response.getHeaders().getFirst("X-Total-Count"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(response.getHeaders().containsKey("Keep-Alive"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HttpClientProperties.Mode.class)
+    void sendsUserHeaderParametersAndBody(HttpClientProperties.Mode mode) throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        ResponseEntity<Object> response = transport(mode).exchange(HttpMethod.POST, "/items/search?text={text}", 7L,
+                Map.of("text", "дрель аккумуляторная"), Map.of("name", "Дрель")).join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertEquals("POST", request.getMethod());
+        assertEquals("дрель аккумуляторная", request.getRequestUrl().queryParameter("text"));
+        assertEquals("7", request.getHeader("X-Sharer-User-Id"));
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, request.getHeader(HttpHeaders.CONTENT_TYPE));
+        assertEquals("{\"name\":\"Дрель\"}", request.getBody().readUtf8());
+    }
+
+    @ParameterizedTest
+    @EnumSource(HttpClientProperties.Mode.class)
+    void omitsUserHeaderWithoutUser(HttpClientProperties.Mode mode) throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(204));
+
+        ResponseEntity<Object> response = transport(mode).exchange(HttpMethod.DELETE, "/users/3", null, null, null)
+                .join();
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertNull(server.takeRequest(5, TimeUnit.SECONDS).getHeader("X-Sharer-User-Id"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("errorStatuses")
+    void passesErrorStatusesThroughWithoutThrowing(HttpClientProperties.Mode mode, HttpStatus status) {
+        byte[] body = ("{\"error\":\"" + status.getReasonPhrase() + "\"}").getBytes(StandardCharsets.UTF_8);
+        server.enqueue(new MockResponse()
+                .setResponseCode(status.value())
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(new Buffer().write(body)));
+
+        ResponseEntity<Object> response = transport(mode).exchange(HttpMethod.PATCH, "/bookings/5?approved={approved}",
+                1L, Map.of("approved", true), null).join();
+
+        assertEquals(status, response.getStatusCode());
+        assertArrayEquals(body, (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    private static Stream<Arguments> errorStatuses() {
+        return Arrays.stream(HttpClientProperties.Mode.values())
+                .flatMap(mode -> Stream.of(HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND, HttpStatus.CONFLICT,
+                                HttpStatus.INTERNAL_SERVER_ERROR)
+                        .map(status -> Arguments.of(mode, status)));
+    }
+
+    private ServerTransport transport(HttpClientProperties.Mode mode) {
+        String serverUrl = "http://" + server.getHostName() + ":" + server.getPort();
+        if (mode == HttpClientProperties.Mode.REACTIVE) {
+            return new WebClientServerTransport(WebClient.builder().baseUrl(serverUrl).build());
+        }
+        return new RestTemplateServerTransport(new RestTemplateBuilder()
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl))
+                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.itemRequest;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "shareit-server.http.mode=blocking",
+        "shareit-server.http.max-per-route=2",
+        "shareit-server.http.max-total=2",
+        "shareit-server.http.connection-request-timeout=500ms",
+        "server.tomcat.threads.max=4"
+})
+class MatchesLongPollTest {
+    private static final int POLLS = 8;
+    private static final MockWebServer SERVER = new MockWebServer();
+    private static final CountDownLatch PARKED = new CountDownLatch(POLLS);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) throws IOException {
+        SERVER.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().startsWith("/requests/matches")) {
+                    PARKED.countDown();
+                    RELEASE.await(30, TimeUnit.SECONDS);
+                    return json("{\"last\":0,\"matches\":[]}");
+                }
+                return json("{\"id\":1,\"name\":\"user\",\"email\":\"user@mail.com\"}");
+            }
+        });
+        SERVER.start();
+        registry.add("shareit-server.url", () -> "http://" + SERVER.getHostName() + ":" + SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        SERVER.shutdown();
+    }
+
+    @Test
+    void ordinaryRequestsPassWhilePollsAreParked() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        List<CompletableFuture<HttpResponse<String>>> polls = new ArrayList<>();
+        for (int i = 0; i < POLLS; i++) {
+            polls.add(client.sendAsync(request("/requests/matches?after=0"), HttpResponse.BodyHandlers.ofString()));
+        }
+        assertTrue(PARKED.await(10, TimeUnit.SECONDS), "сервер должен получить все ожидающие запросы");
+
+        for (int i = 0; i < 5; i++) {
+            HttpResponse<String> user = client.send(request("/users/1"), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, user.statusCode(), user.body());
+        }
+
+        RELEASE.countDown();
+        for (CompletableFuture<HttpResponse<String>> poll : polls) {
+            assertEquals(200, poll.get(10, TimeUnit.SECONDS).statusCode());
+        }
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-Sharer-User-Id", "1")
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.UserController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = UserController.class, properties = "shareit.logging.access.payload-sample-rate=1")
+@ExtendWith(OutputCaptureExtension.class)
+class AccessLogTest {
+    @MockBean
+    private UserClient userClient;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void writesSummaryAndSampledPayloadOfServerResponses(CapturedOutput output) throws Exception {
+        byte[] user = "{\"id\":7,\"name\":\"name\",\"email\":\"access@email.com\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] error = "{\"error\":\"Пользователь с id 8 не найден\"}".getBytes(StandardCharsets.UTF_8);
+        Mockito.when(userClient.getById(7L)).thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON).body(user)));
+        Mockito.when(userClient.delete(8L)).thenReturn(CompletableFuture.completedFuture(
+                ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error)));
+
+        MvcResult found = mockMvc.perform(get("/users/7").header("X-Sharer-User-Id", 7)).andReturn();
+        mockMvc.perform(asyncDispatch(found)).andExpect(status().isOk());
+        MvcResult missing = mockMvc.perform(delete("/users/8")).andReturn();
+        mockMvc.perform(asyncDispatch(missing)).andExpect(status().isNotFound());
+
+        awaitOutput(output, "route=\"GET /users/{id}\" status=200 user=7 ids={id=7} bytes=" + user.length
+                + " latencyMs=");
+        awaitOutput(output, "route=\"DELETE /users/{id}\" status=404 user=- ids={id=8} bytes=" + error.length
+                + " latencyMs=");
+        awaitOutput(output, "GET /users/7 {\"id\":7,\"name\":\"name\",\"email\":\"access@email.com\"}");
+    }
+
+    private static void awaitOutput(CapturedOutput output, String expected) throws InterruptedException {
+        for (int i = 0; i < 50 && !output.getOut().contains(expected); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(output.getOut().contains(expected), "в журнале нет строки: " + expected);
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.user;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserStreamingTest {
+    private static final MockWebServer SERVER = new MockWebServer();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) throws IOException {
+        SERVER.start();
+        registry.add("shareit-server.url", () -> "http://" + SERVER.getHostName() + ":" + SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        SERVER.shutdown();
+    }
+
+    @Test
+    void streamsAllUsersInFormatRequestedByClient() throws Exception {
+        String body = IntStream.range(0, 1000)
+                .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"user" + i + "\",\"email\":\"user" + i + "@mail.com\"}\n")
+                .collect(Collectors.joining());
+        SERVER.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                .setChunkedBody(body, 4096));
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users"))
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+                        .timeout(Duration.ofSeconds(10))
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        RecordedRequest request = SERVER.takeRequest(5, TimeUnit.SECONDS);
+        assertEquals("/users", request.getPath());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, request.getHeader(HttpHeaders.ACCEPT));
+        assertEquals(200, response.statusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE,
+                response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null));
+        assertEquals(body, response.body());
+    }
+}
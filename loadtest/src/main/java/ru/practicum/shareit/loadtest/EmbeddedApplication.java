@@ -0,0 +1,63 @@
+package ru.practicum.shareit.loadtest;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+public class EmbeddedApplication {
+    private static final String LOADER = "org.springframework.boot.loader.";
+    private static final String TOMCAT_URL_FACTORY = "org.apache.catalina.webresources.TomcatURLStreamHandlerFactory";
+
+    private final String name;
+    private final Path jar;
+
+    public EmbeddedApplication(String name, Path jar) {
+        this.name = name;
+        this.jar = jar;
+    }
+
+    /**
+     * Запускает исполняемый архив Spring Boot в текущей JVM, в отдельном загрузчике классов.
+     * Повторяет {@code JarLauncher.launch}, но до старта приложения отключает регистрацию
+     * {@code TomcatURLStreamHandlerFactory}: фабрика URL одна на JVM, и второй Tomcat без этого не стартует.
+     */
+    public void start(String... args) throws Exception {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Не найден исполняемый архив " + name + ": " + jar);
+        }
+        URLClassLoader loader = new URLClassLoader(name, new URL[]{jar.toUri().toURL()},
+                ClassLoader.getPlatformClassLoader());
+        loader.loadClass(LOADER + "jar.JarFile").getMethod("registerUrlProtocolHandler").invoke(null);
+        Class<?> launcherClass = loader.loadClass(LOADER + "JarLauncher");
+        Object launcher = launcherClass.getConstructor().newInstance();
+        Class<?> base = loader.loadClass(LOADER + "ExecutableArchiveLauncher");
+        Object archives = invoke(base, launcher, "getClassPathArchivesIterator");
+        Method createClassLoader = base.getDeclaredMethod("createClassLoader", Iterator.class);
+        createClassLoader.setAccessible(true);
+        ClassLoader application = (ClassLoader) createClassLoader.invoke(launcher, archives);
+        String mainClass = (String) invoke(base, launcher, "getMainClass");
+
+        Class.forName(TOMCAT_URL_FACTORY, true, application).getMethod("disable").invoke(null);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        long started = System.nanoTime();
+        thread.setContextClassLoader(application);
+        try {
+            Method main = Class.forName(mainClass, false, application).getMethod("main", String[].class);
+            main.invoke(null, (Object) args);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        System.out.printf("%s запущен за %d мс%n", name, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static Object invoke(Class<?> type, Object target, String method) throws Exception {
+        Method declared = type.getDeclaredMethod(method);
+        declared.setAccessible(true);
+        return declared.invoke(target);
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+public class EndpointStats {
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    public synchronized Snapshot snapshot(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Snapshot(endpoint, count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    public static class Snapshot {
+        final String endpoint;
+        final int requests;
+        final int errors;
+        final double throughput;
+        final double p50;
+        final double p99;
+        final double max;
+
+        Snapshot(String endpoint, int requests, int errors, double throughput, double p50, double p99, double max) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+}
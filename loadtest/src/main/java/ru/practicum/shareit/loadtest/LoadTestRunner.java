@@ -0,0 +1,146 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class LoadTestRunner {
+    private final Map<String, String> options;
+
+    private LoadTestRunner(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Ожидался параметр вида --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        new LoadTestRunner(options).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        Path apps = Paths.get(LoadTestRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .resolveSibling("apps");
+        int serverPort = freePort();
+        int gatewayPort = freePort();
+        new EmbeddedApplication("shareit-server", path("server-jar", apps.resolve("shareit-server.jar")))
+                .start("--server.port=" + serverPort,
+                        "--spring.profiles.active=ci",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn");
+        new EmbeddedApplication("shareit-gateway", path("gateway-jar", apps.resolve("shareit-gateway.jar")))
+                .start("--server.port=" + gatewayPort,
+                        "--shareit-server.url=http://localhost:" + serverPort,
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.springframework.web.client.RestTemplate=warn");
+
+        Workload workload = new Workload(URI.create("http://localhost:" + gatewayPort));
+        workload.seed(integer("users", 100), integer("items", 500));
+        int threads = integer("threads", 16);
+        Duration warmup = duration("warmup", Duration.ofSeconds(15));
+        Duration duration = duration("duration", Duration.ofSeconds(60));
+        System.out.printf("Нагрузка: потоков %d, прогрев %d с, замер %d с%n", threads, warmup.getSeconds(),
+                duration.getSeconds());
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    workload.runOnce();
+                }
+            }, "loadtest-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        Thread.sleep(warmup.toMillis());
+        workload.startRecording();
+        long started = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        workload.stopRecording();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join(10_000);
+        }
+
+        List<EndpointStats.Snapshot> snapshots = workload.snapshot(seconds);
+        printTable(snapshots);
+        Path report = Paths.get(options.getOrDefault("report", "loadtest-report.json"));
+        writeReport(report, snapshots, threads, seconds);
+        System.out.println("Отчёт сохранён в " + report.toAbsolutePath());
+    }
+
+    private static void printTable(List<EndpointStats.Snapshot> snapshots) {
+        String format = "%-22s %10s %8s %10s %10s %10s %10s%n";
+        System.out.printf(format, "endpoint", "requests", "errors", "rps", "p50, мс", "p99, мс", "max, мс");
+        for (EndpointStats.Snapshot snapshot : snapshots) {
+            System.out.printf(Locale.ROOT, "%-22s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", snapshot.endpoint,
+                    snapshot.requests, snapshot.errors, snapshot.throughput, snapshot.p50, snapshot.p99,
+                    snapshot.max);
+        }
+    }
+
+    private static void writeReport(Path report, List<EndpointStats.Snapshot> snapshots, int threads,
+                                    double seconds) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "{\n  \"threads\": %d,\n  \"durationSeconds\": %.1f,\n" +
+                "  \"endpoints\": [", threads, seconds));
+        for (int i = 0; i < snapshots.size(); i++) {
+            EndpointStats.Snapshot snapshot = snapshots.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append(String.format(Locale.ROOT, "    {\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, " +
+                            "\"rps\": %.1f, \"p50Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f}", snapshot.endpoint,
+                    snapshot.requests, snapshot.errors, snapshot.throughput, snapshot.p50, snapshot.p99,
+                    snapshot.max));
+        }
+        json.append("\n  ]\n}\n");
+        Files.write(report, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path path(String name, Path defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Paths.get(value);
+    }
+
+    private int integer(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private Duration duration(String name, Duration defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1) : value));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
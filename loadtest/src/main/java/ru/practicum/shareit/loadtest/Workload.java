@@ -0,0 +1,242 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class Workload {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] WORDS = {"Дрель", "Палатка", "Велосипед", "Перфоратор", "Лестница", "Самокат"};
+    private static final int PAGE_SIZE = 20;
+
+    enum Operation {
+        CREATE_USER("POST /users", 5),
+        CREATE_ITEM("POST /items", 10),
+        CREATE_BOOKING("POST /bookings", 15),
+        APPROVE_BOOKING("PATCH /bookings/{id}", 10),
+        SEARCH("GET /items/search", 20),
+        OWNER_ITEMS("GET /items", 15),
+        BOOKER_BOOKINGS("GET /bookings", 15),
+        OWNER_BOOKINGS("GET /bookings/owner", 10);
+
+        private final String endpoint;
+        private final int weight;
+
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final URI baseUri;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final List<Long> users = new CopyOnWriteArrayList<>();
+    private final List<long[]> items = new CopyOnWriteArrayList<>();
+    private final Queue<long[]> pendingBookings = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LocalDateTime bookingsFrom = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    private final int totalWeight;
+    private volatile boolean recording;
+
+    public Workload(URI baseUri) {
+        this.baseUri = baseUri;
+        int weights = 0;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.endpoint));
+            weights += operation.weight;
+        }
+        this.totalWeight = weights;
+    }
+
+    public void seed(int usersCount, int itemsCount) {
+        for (int i = 0; i < usersCount; i++) {
+            createUser();
+        }
+        for (int i = 0; i < itemsCount; i++) {
+            createItem();
+        }
+        if (users.size() < 2 || items.isEmpty()) {
+            throw new IllegalStateException("Не удалось подготовить данные: пользователей " + users.size() +
+                    ", вещей " + items.size());
+        }
+    }
+
+    public void startRecording() {
+        recording = true;
+    }
+
+    public void stopRecording() {
+        recording = false;
+    }
+
+    public List<EndpointStats.Snapshot> snapshot(double seconds) {
+        List<EndpointStats.Snapshot> snapshots = new ArrayList<>();
+        for (EndpointStats endpointStats : stats.values()) {
+            snapshots.add(endpointStats.snapshot(seconds));
+        }
+        return snapshots;
+    }
+
+    public void runOnce() {
+        int choice = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            choice -= operation.weight;
+            if (choice < 0) {
+                run(operation);
+                return;
+            }
+        }
+    }
+
+    private void run(Operation operation) {
+        switch (operation) {
+            case CREATE_USER:
+                createUser();
+                break;
+            case CREATE_ITEM:
+                createItem();
+                break;
+            case CREATE_BOOKING:
+                createBooking();
+                break;
+            case APPROVE_BOOKING:
+                approveBooking();
+                break;
+            case SEARCH:
+                send(operation, get("/items/search?text=" + randomWord().toLowerCase(Locale.ROOT) +
+                        "&from=0&size=" + PAGE_SIZE, null));
+                break;
+            case OWNER_ITEMS:
+                send(operation, get("/items?from=0&size=" + PAGE_SIZE, randomItem()[1]));
+                break;
+            case BOOKER_BOOKINGS:
+                send(operation, get("/bookings?state=ALL&from=0&size=" + PAGE_SIZE, randomUser()));
+                break;
+            case OWNER_BOOKINGS:
+                send(operation, get("/bookings/owner?state=ALL&from=0&size=" + PAGE_SIZE, randomItem()[1]));
+                break;
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private void createUser() {
+        long n = sequence.incrementAndGet();
+        String body = String.format("{\"name\":\"user%d\",\"email\":\"user%d@load.test\"}", n, n);
+        Long id = send(Operation.CREATE_USER, post("/users", body, null));
+        if (id != null) {
+            users.add(id);
+        }
+    }
+
+    private void createItem() {
+        long ownerId = randomUser();
+        String word = randomWord();
+        String body = String.format("{\"name\":\"%s %d\",\"description\":\"%s в хорошем состоянии\"," +
+                "\"available\":true}", word, sequence.incrementAndGet(), word);
+        Long id = send(Operation.CREATE_ITEM, post("/items", body, ownerId));
+        if (id != null) {
+            items.add(new long[]{id, ownerId});
+        }
+    }
+
+    private void createBooking() {
+        long[] item = randomItem();
+        long bookerId = randomUser();
+        while (bookerId == item[1]) {
+            bookerId = randomUser();
+        }
+        LocalDateTime start = bookingsFrom.plusMinutes(sequence.incrementAndGet());
+        String body = String.format("{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}", item[0], start,
+                start.plusSeconds(30));
+        Long id = send(Operation.CREATE_BOOKING, post("/bookings", body, bookerId));
+        if (id != null) {
+            pendingBookings.add(new long[]{id, item[1]});
+        }
+    }
+
+    private void approveBooking() {
+        long[] booking = pendingBookings.poll();
+        if (booking == null) {
+            createBooking();
+            return;
+        }
+        send(Operation.APPROVE_BOOKING, request("/bookings/" + booking[0] + "?approved=true", booking[1])
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    private Long send(Operation operation, HttpRequest request) {
+        long started = System.nanoTime();
+        boolean error = true;
+        Long id = null;
+        try {
+            HttpResponse<String> response = client.send(request,
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            error = response.statusCode() >= 400;
+            if (!error) {
+                Matcher matcher = ID.matcher(response.body());
+                id = matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ignored) {
+            error = true;
+        }
+        if (recording) {
+            stats.get(operation).record(System.nanoTime() - started, error);
+        }
+        return id;
+    }
+
+    private HttpRequest get(String path, Long userId) {
+        return request(path, userId).GET().build();
+    }
+
+    private HttpRequest post(String path, String body, Long userId) {
+        return request(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path));
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder;
+    }
+
+    private long randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private long[] randomItem() {
+        return items.get(ThreadLocalRandom.current().nextInt(items.size()));
+    }
+
+    private static String randomWord() {
+        return WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,31 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Создает последовательность для идентификаторов предметов. Hibernate берет из нее значения блоками
+ * ({@code pooled}): полученное значение - верхняя граница блока, поэтому последовательность начинается на
+ * {@value #ALLOCATION_SIZE} выше текущего максимального id, и первый блок продолжает уже выданные IDENTITY-ключи.
+ * Шаг должен совпадать с {@code allocationSize} у {@code Item.id}. Начальное значение зависит от данных,
+ * поэтому миграция написана на Java, а не на SQL.
+ */
+public class V4__create_items_sequence extends BaseJavaMigration {
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(ID), 0) FROM ITEMS")) {
+                resultSet.next();
+                maxId = resultSet.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE ITEMS_SEQ START WITH " + (maxId + ALLOCATION_SIZE) +
+                    " INCREMENT BY " + ALLOCATION_SIZE);
+        }
+    }
+}
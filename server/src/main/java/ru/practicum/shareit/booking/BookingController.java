@@ -2,7 +2,11 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -14,32 +18,38 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class BookingController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final BookingService bookingService;
 
     @PostMapping
     public BookingResponseDto create(@RequestBody BookingRequestDto bookingDto,
                                      @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел POST запрос на добавление новой аренды {} от пользователя с id {}", bookingDto, userId);
+        log.debug("Пришел POST запрос на добавление новой аренды {} от пользователя с id {}", bookingDto, userId);
         BookingResponseDto booking = bookingService.create(bookingDto, userId);
-        log.info("Ответ отправлен {}", booking);
         return booking;
     }
 
     @PatchMapping("/{bookingId}")
     public BookingResponseDto approve(@PathVariable Long bookingId, @RequestHeader("X-Sharer-User-Id") Long userId,
                                       @RequestParam Boolean approved) {
-        log.info("Пришел /POST запрос на принятие или отклонение аренды от пользователя с id {} к предмету с id {}",
+        log.debug("Пришел /POST запрос на принятие или отклонение аренды от пользователя с id {} к предмету с id {}",
                 userId, bookingId);
         BookingResponseDto booking = bookingService.approve(bookingId, userId, approved);
-        log.info("Ответ отправлен {}", booking);
         return booking;
     }
 
+    @PatchMapping("/approve")
+    public List<BookingDecisionResultDto> approveAll(@RequestBody List<BookingDecisionDto> decisions,
+                                                     @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.debug("Пришел /PATCH запрос на принятие или отклонение {} аренд от пользователя с id {}",
+                decisions.size(), userId);
+        return bookingService.approveAll(userId, decisions);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingResponseDto getById(@RequestHeader("X-Sharer-User-Id") Long userId, @PathVariable Long bookingId) {
-        log.info("Пришел /GET запрос на получение данных об аренде с id {} от пользователя {}", bookingId, userId);
+        log.debug("Пришел /GET запрос на получение данных об аренде с id {} от пользователя {}", bookingId, userId);
         BookingResponseDto booking = bookingService.getById(bookingId, userId);
-        log.info("Ответ отправлен {}", booking);
         return booking;
     }
 
@@ -48,10 +58,9 @@ public class BookingController {
                                                   @RequestParam(defaultValue = "ALL") String state,
                                                   @RequestParam(defaultValue = "0") int from,
                                                   @RequestParam(defaultValue = "10") int size) {
-        log.info("Пришел /GET запрос на получение списка всех бронирований для владельца с id {}, и с параметром {}",
+        log.debug("Пришел /GET запрос на получение списка всех бронирований для владельца с id {}, и с параметром {}",
                 userId, state);
         List<BookingResponseDto> bookings = bookingService.getAllByOwner(userId, state, from, size);
-        log.info("Ответ отправлен {}", bookings);
         return bookings;
     }
 
@@ -60,10 +69,39 @@ public class BookingController {
                                                    @RequestParam(defaultValue = "ALL") String state,
                                                    @RequestParam(defaultValue = "0") int from,
                                                    @RequestParam(defaultValue = "10") int size) {
-        log.info("Пришел /GET запрос на получение списка всех бронирований для пользователя с id {}, и с параметром {}",
+        log.debug("Пришел /GET запрос на получение списка всех бронирований для пользователя с id {}, и с параметром {}",
                 userId, state);
         List<BookingResponseDto> bookings = bookingService.getAllByBooker(userId, state, from, size);
-        log.info("Ответ отправлен {}", bookings);
         return bookings;
     }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public ResponseEntity<List<BookingResponseDto>> getPageByOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                   @RequestParam(defaultValue = "ALL") String state,
+                                                                   @RequestParam String cursor,
+                                                                   @RequestParam(defaultValue = "10") int size) {
+        log.debug("Пришел /GET запрос на получение страницы бронирований для владельца с id {}, с параметром {} " +
+                "и курсором {}", userId, state, cursor);
+        BookingPageDto page = bookingService.getPageByOwner(userId, state, cursor, size);
+        return toResponse(page);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<BookingResponseDto>> getPageByBooker(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                    @RequestParam(defaultValue = "ALL") String state,
+                                                                    @RequestParam String cursor,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        log.debug("Пришел /GET запрос на получение страницы бронирований для пользователя с id {}, с параметром {} " +
+                "и курсором {}", userId, state, cursor);
+        BookingPageDto page = bookingService.getPageByBooker(userId, state, cursor, size);
+        return toResponse(page);
+    }
+
+    private ResponseEntity<List<BookingResponseDto>> toResponse(BookingPageDto page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getBookings());
+    }
 }
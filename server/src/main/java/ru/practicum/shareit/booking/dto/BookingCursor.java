@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.pagination.KeysetCursorCodec;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BookingCursor {
+    private final LocalDateTime start;
+    private final Long id;
+
+    public static BookingCursor of(Booking booking) {
+        return new BookingCursor(booking.getStart(), booking.getId());
+    }
+
+    public String encode() {
+        return KeysetCursorCodec.encode(start, id);
+    }
+
+    public static BookingCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 2, keys ->
+                new BookingCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+    }
+}
@@ -24,13 +24,19 @@ public class Booking {
     private LocalDateTime start;
     @Column(name = "end_date", nullable = false)
     private LocalDateTime end;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id", referencedColumnName = "id", nullable = false)
     private Item item;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booker_id", referencedColumnName = "id", nullable = false)
     private User booker;
     @Enumerated(EnumType.STRING)
     @Column(length = 10)
     private Status status;
+    @Version
+    private Long version;
+
+    public Booking(Long id, LocalDateTime start, LocalDateTime end, Item item, User booker, Status status) {
+        this(id, start, end, item, booker, status, null);
+    }
 }
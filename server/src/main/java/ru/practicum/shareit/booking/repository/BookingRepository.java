@@ -1,42 +1,55 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
-import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByItemOwner(User user, Pageable pageable);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
 
-    List<Booking> findAllByItemOwnerAndStartBeforeAndEndAfter(User user, LocalDateTime start, LocalDateTime end, Pageable pageable);
-
-    List<Booking> findAllByItemOwnerAndEndBefore(User user, LocalDateTime end, Pageable pageable);
-
-    List<Booking> findAllByItemOwnerAndStartAfter(User user, LocalDateTime start, Pageable pageable);
-
-    List<Booking> findAllByItemOwnerAndStatusEquals(User user, Status status, Pageable pageable);
-
-    Page<Booking> findAllByBooker(User user, Pageable pageable);
-
-    Page<Booking> findAllByBookerAndStartBeforeAndEndAfter(User user, LocalDateTime start, LocalDateTime end,
-                                                           Pageable pageable);
-
-    Page<Booking> findAllByBookerAndEndBefore(User user, LocalDateTime end, Pageable pageable);
-
-    Page<Booking> findAllByBookerAndStartAfter(User user, LocalDateTime start, Pageable pageable);
-
-    Page<Booking> findAllByBookerAndStatusEquals(User user, Status status, Pageable pageable);
+    @EntityGraph(attributePaths = "item")
+    List<Booking> findAllByIdIn(Collection<Long> ids);
 
+    @Query("select b from Booking b where b.item.id = ?1 and b.item.owner.id = ?2 and b.start < ?3 " +
+            "order by b.end desc")
     List<Booking> findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc(Long itemId, Long userId, LocalDateTime now);
 
+    @Query("select b from Booking b where b.item.id = ?1 and b.end < ?2 order by b.start asc")
     List<Booking> findAllByItemIdAndEndBeforeOrderByStartAsc(Long itemId, LocalDateTime now);
 
+    @Query("select b from Booking b where b.item.id = ?1 and b.start > ?2 order by b.start asc")
     List<Booking> findAllByItemIdAndStartAfterOrderByStartAsc(Long itemId, LocalDateTime now);
 
+    @Query("select b from Booking b " +
+            "where b.item.id in ?1 and b.end < ?2 " +
+            "and b.start = (select min(b2.start) from Booking b2 where b2.item.id = b.item.id and b2.end < ?2)")
+    List<Booking> findLastBookingsByItemIdIn(Collection<Long> itemIds, LocalDateTime now);
+
+    @Query("select b from Booking b " +
+            "where b.item.id in ?1 and b.start > ?2 " +
+            "and b.start = (select min(b2.start) from Booking b2 where b2.item.id = b.item.id and b2.start > ?2)")
+    List<Booking> findNextBookingsByItemIdIn(Collection<Long> itemIds, LocalDateTime now);
+
+    @Query("select b from Booking b where b.booker.id = ?1 and b.item.id = ?2 and b.status = ?3 and b.end < ?4")
     List<Booking> findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(Long userId, Long itemId, Status status, LocalDateTime end);
+
+    @Query("select count(b) > 0 from Booking b " +
+            "where b.item.id = ?1 and b.status in ?2 and b.start < ?3 and b.end > ?4")
+    boolean existsByItemIdAndStatusInAndStartBeforeAndEndAfter(Long itemId, Collection<Status> statuses,
+                                                               LocalDateTime end, LocalDateTime start);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Booking b set b.status = ?3, b.version = b.version + 1 " +
+            "where b.id = ?1 and b.status = ru.practicum.shareit.booking.model.Status.WAITING " +
+            "and exists (select i.id from Item i where i.id = b.item.id and i.owner.id = ?2)")
+    int decideWaiting(Long bookingId, Long ownerId, Status status);
 }
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface BookingRepositoryCustom {
+    List<Booking> findAll(Specification<Booking> specification, int offset, int limit);
+
+    /**
+     * Переводит ожидающие бронирования в указанные статусы одним пакетом условных обновлений и возвращает id
+     * тех, которые изменил именно этот вызов. Бронирование, которое к моменту обновления уже не ожидает решения,
+     * не меняется и в результат не попадает, даже если ему уже присвоен тот же статус.
+     */
+    Set<Long> decideAllWaiting(Map<Long, Status> decisions);
+}
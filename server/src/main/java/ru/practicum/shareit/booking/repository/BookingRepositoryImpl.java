@@ -0,0 +1,70 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class BookingRepositoryImpl implements BookingRepositoryCustom {
+    private static final String DECIDE_WAITING = "update bookings set status = ?, version = version + 1 " +
+            "where id = ? and status = 'WAITING'";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Booking> findAll(Specification<Booking> specification, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Booking> query = cb.createQuery(Booking.class);
+        Root<Booking> root = query.from(Booking.class);
+        root.fetch("item");
+        root.fetch("booker");
+        query.select(root)
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.desc(root.get("start")), cb.desc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Set<Long> decideAllWaiting(Map<Long, Status> decisions) {
+        Session session = entityManager.unwrap(Session.class);
+        // Пакет идет мимо Hibernate, поэтому SQL явно проходит через настроенный StatementInspector.
+        StatementInspector inspector = session.getSessionFactory().getSessionFactoryOptions().getStatementInspector();
+        String sql = inspector != null ? inspector.inspect(DECIDE_WAITING) : DECIDE_WAITING;
+        List<Long> ids = new ArrayList<>(decisions.keySet());
+        int[] updated = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (Long id : ids) {
+                    statement.setString(1, decisions.get(id).name());
+                    statement.setLong(2, id);
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+        Set<Long> decided = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (updated[i] > 0) {
+                decided.add(ids.get(i));
+            }
+        }
+        entityManager.clear();
+        return decided;
+    }
+}
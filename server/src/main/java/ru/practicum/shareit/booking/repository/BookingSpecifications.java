@@ -0,0 +1,47 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+import java.time.LocalDateTime;
+
+public class BookingSpecifications {
+    public static Specification<Booking> byBooker(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("booker").get("id"), userId);
+    }
+
+    public static Specification<Booking> byItemOwner(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("item").get("owner").get("id"), userId);
+    }
+
+    public static Specification<Booking> byState(String state, LocalDateTime now) {
+        switch (state) {
+            case "ALL":
+                return (root, query, cb) -> cb.conjunction();
+            case "CURRENT":
+                return (root, query, cb) -> cb.and(cb.lessThan(root.get("start"), now),
+                        cb.greaterThan(root.get("end"), now));
+            case "PAST":
+                return (root, query, cb) -> cb.lessThan(root.get("end"), now);
+            case "FUTURE":
+                return (root, query, cb) -> cb.greaterThan(root.get("start"), now);
+            case "WAITING":
+                return (root, query, cb) -> cb.equal(root.get("status"), Status.WAITING);
+            case "REJECTED":
+                return (root, query, cb) -> cb.equal(root.get("status"), Status.REJECTED);
+            default:
+                throw new BadRequestException("Unknown state: " + state);
+        }
+    }
+
+    public static Specification<Booking> after(BookingCursor cursor) {
+        if (cursor == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        return (root, query, cb) -> cb.or(cb.lessThan(root.get("start"), cursor.getStart()),
+                cb.and(cb.equal(root.get("start"), cursor.getStart()), cb.lessThan(root.get("id"), cursor.getId())));
+    }
+}
@@ -1,5 +1,8 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
@@ -10,9 +13,15 @@ public interface BookingService {
 
     BookingResponseDto approve(Long bookingId, Long ownerId, Boolean approve);
 
+    List<BookingDecisionResultDto> approveAll(Long ownerId, List<BookingDecisionDto> decisions);
+
     BookingResponseDto getById(Long bookingId, Long userId);
 
     List<BookingResponseDto> getAllByOwner(Long userId, String state, int from, int size);
 
     List<BookingResponseDto> getAllByBooker(Long userId, String state, int from, int size);
+
+    BookingPageDto getPageByOwner(Long userId, String state, String cursor, int size);
+
+    BookingPageDto getPageByBooker(Long userId, String state, String cursor, int size);
 }
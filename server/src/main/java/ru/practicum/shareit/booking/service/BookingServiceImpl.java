@@ -2,27 +2,40 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingSpecifications;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.item.cache.ItemChangedEvent;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.booking.mapper.BookingMapper.toBooking;
 import static ru.practicum.shareit.booking.mapper.BookingMapper.toBookingResponseDto;
@@ -35,7 +48,10 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserService userService;
     private final ItemRepository itemRepository;
-    private final Sort sort = Sort.by(Sort.Direction.DESC, "start");
+    private final ApplicationEventPublisher eventPublisher;
+    private static final Set<Status> ACTIVE_STATUSES = EnumSet.of(Status.WAITING, Status.APPROVED);
+    private static final String BOOKING_NOT_FOUND = "Бронирование не найдено";
+    private static final String ALREADY_DECIDED = "Бронирование уже подтверждено или отклонено";
 
     @Transactional
     @Override
@@ -56,32 +72,91 @@ public class BookingServiceImpl implements BookingService {
             log.error("Дата окончания бронирования не может быть больше даты начала или равна 0");
             throw new BookingIsNotAvailableException("Дата окончания бронирования не может быть больше даты начала или равна 0");
         }
+        itemRepository.findByIdForUpdate(item.getId());
+        if (bookingRepository.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(item.getId(), ACTIVE_STATUSES,
+                booking.getEnd(), booking.getStart())) {
+            log.error("Вещь уже забронирована на выбранные даты");
+            throw new BookingIsNotAvailableException("Вещь уже забронирована на выбранные даты");
+        }
         booking.setStatus(Status.WAITING);
         Booking responseBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
         return toBookingResponseDto(responseBooking);
     }
 
+    @Transactional
     @Override
     public BookingResponseDto approve(Long bookingId, Long ownerId, Boolean approve) {
+        int updated = bookingRepository.decideWaiting(bookingId, ownerId, decidedStatus(approve));
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() ->
-                new DataNotFoundException("Бронирование не найдено"));
-        if (booking.getItem().getOwner().getId() != ownerId) {
-            log.error("Бронирование у пользователя с id {} не найдено", ownerId);
-            throw new DataNotFoundException(String.format("Бронирование у пользователя с id %d не найдено", ownerId));
+                new DataNotFoundException(BOOKING_NOT_FOUND));
+        if (updated == 0) {
+            if (!ownerId.equals(booking.getItem().getOwner().getId())) {
+                log.error("Бронирование у пользователя с id {} не найдено", ownerId);
+                throw new DataNotFoundException(String.format("Бронирование у пользователя с id %d не найдено",
+                        ownerId));
+            }
+            log.error(ALREADY_DECIDED);
+            throw new ConflictException(ALREADY_DECIDED);
         }
-        if (!booking.getStatus().equals(Status.WAITING)) {
-            log.error("Бронирование уже подтверждено или отклонено");
-            throw new BookingIsNotAvailableException("Бронирование уже подтверждено или отклонено");
+        eventPublisher.publishEvent(new ItemChangedEvent(booking.getItem().getId()));
+        return toBookingResponseDto(booking);
+    }
+
+    @Transactional
+    @Override
+    public List<BookingDecisionResultDto> approveAll(Long ownerId, List<BookingDecisionDto> decisions) {
+        if (decisions == null || decisions.isEmpty()) {
+            throw new BadRequestException("Список решений по бронированиям не может быть пустым");
         }
-        if (approve) {
-            booking.setStatus(Status.APPROVED);
-        } else {
-            booking.setStatus(Status.REJECTED);
+        Map<Long, Boolean> requested = new LinkedHashMap<>();
+        for (BookingDecisionDto decision : decisions) {
+            if (decision.getBookingId() == null || decision.getApproved() == null) {
+                throw new BadRequestException("Для каждого решения нужно указать bookingId и approved");
+            }
+            requested.put(decision.getBookingId(), decision.getApproved());
         }
-        Booking responseBooking = bookingRepository.save(booking);
-        return toBookingResponseDto(responseBooking);
+        Map<Long, Booking> bookings = bookingRepository.findAllByIdIn(requested.keySet()).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Long, String> errors = new HashMap<>();
+        Map<Long, Status> waiting = new LinkedHashMap<>();
+        requested.forEach((bookingId, approve) -> {
+            Booking booking = bookings.get(bookingId);
+            if (booking == null || !ownerId.equals(booking.getItem().getOwner().getId())) {
+                errors.put(bookingId, BOOKING_NOT_FOUND);
+            } else if (booking.getStatus() != Status.WAITING) {
+                errors.put(bookingId, ALREADY_DECIDED);
+            } else {
+                waiting.put(bookingId, decidedStatus(approve));
+            }
+        });
+
+        if (!waiting.isEmpty()) {
+            Set<Long> decided = bookingRepository.decideAllWaiting(waiting);
+            Set<Long> itemIds = new HashSet<>();
+            waiting.keySet().forEach(bookingId -> {
+                if (decided.contains(bookingId)) {
+                    itemIds.add(bookings.get(bookingId).getItem().getId());
+                } else {
+                    errors.put(bookingId, ALREADY_DECIDED);
+                }
+            });
+            itemIds.forEach(itemId -> eventPublisher.publishEvent(new ItemChangedEvent(itemId)));
+        }
+        log.debug("Пользователь с id {} принял решения по {} бронированиям, ошибок: {}", ownerId,
+                requested.size(), errors.size());
+
+        return requested.entrySet().stream()
+                .map(decision -> BookingDecisionResultDto.builder()
+                        .bookingId(decision.getKey())
+                        .status(errors.containsKey(decision.getKey()) ? null : decidedStatus(decision.getValue()))
+                        .error(errors.get(decision.getKey()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     @Override
     public BookingResponseDto getById(Long bookingId, Long userId) {
         Booking bookings = bookingRepository.findById(bookingId).orElseThrow(() ->
@@ -99,35 +174,9 @@ public class BookingServiceImpl implements BookingService {
             throw new BadRequestException("Не правильно переданы параметры поиска, индекс первого элемента не может" +
                     " быть меньше нуля а размер страницы должен быть больше нуля");
         }
-        final Pageable pageable = PageRequest.of(
-                from == 0 ? 0 : (from / size),
-                size,
-                sort
-        );
-        User user = toUser(userService.getById(userId));
-        List<Booking> bookings = new ArrayList<>();
-        switch (state) {
-            case "ALL":
-                bookings.addAll(bookingRepository.findAllByItemOwner(user, pageable));
-                break;
-            case "CURRENT":
-                bookings.addAll(bookingRepository.findAllByItemOwnerAndStartBeforeAndEndAfter(user,
-                        LocalDateTime.now(), LocalDateTime.now(), pageable));
-                break;
-            case "PAST":
-                bookings.addAll(bookingRepository.findAllByItemOwnerAndEndBefore(user, LocalDateTime.now(), pageable));
-                break;
-            case "FUTURE":
-                bookings.addAll(bookingRepository.findAllByItemOwnerAndStartAfter(user, LocalDateTime.now(), pageable));
-                break;
-            case "WAITING":
-                bookings.addAll(bookingRepository.findAllByItemOwnerAndStatusEquals(user, Status.WAITING, pageable));
-                break;
-            case "REJECTED":
-                bookings.addAll(bookingRepository.findAllByItemOwnerAndStatusEquals(user, Status.REJECTED, pageable));
-                break;
-        }
-        return toBookingResponseDto(bookings);
+        userService.checkExists(userId);
+        return toBookingResponseDto(bookingRepository.findAll(BookingSpecifications.byItemOwner(userId)
+                .and(BookingSpecifications.byState(state, LocalDateTime.now())), from, size));
     }
 
     @Override
@@ -136,38 +185,45 @@ public class BookingServiceImpl implements BookingService {
             throw new BadRequestException("Не правильно переданы параметры поиска, индекс первого элемента не может" +
                     " быть меньше нуля а размер страницы должен быть больше нуля");
         }
-        final Pageable pageable = PageRequest.of(
-                from == 0 ? 0 : (from / size),
-                size,
-                sort
-        );
-        User user = toUser(userService.getById(userId));
-        List<Booking> bookings = new ArrayList<>();
-        switch (state) {
-            case "ALL":
-                bookings.addAll(bookingRepository.findAllByBooker(user, pageable).toList());
-                break;
-            case "CURRENT":
-                bookings.addAll(bookingRepository.findAllByBookerAndStartBeforeAndEndAfter(user,
-                        LocalDateTime.now(), LocalDateTime.now(), pageable).toList());
-                break;
-            case "PAST":
-                bookings.addAll(bookingRepository.findAllByBookerAndEndBefore(user, LocalDateTime.now(), pageable)
-                        .toList());
-                break;
-            case "FUTURE":
-                bookings.addAll(bookingRepository.findAllByBookerAndStartAfter(user, LocalDateTime.now(), pageable)
-                        .toList());
-                break;
-            case "WAITING":
-                bookings.addAll(bookingRepository.findAllByBookerAndStatusEquals(user, Status.WAITING, pageable)
-                        .toList());
-                break;
-            case "REJECTED":
-                bookings.addAll(bookingRepository.findAllByBookerAndStatusEquals(user, Status.REJECTED, pageable)
-                        .toList());
-                break;
+        userService.checkExists(userId);
+        return toBookingResponseDto(bookingRepository.findAll(BookingSpecifications.byBooker(userId)
+                .and(BookingSpecifications.byState(state, LocalDateTime.now())), from, size));
+    }
+
+    @Override
+    public BookingPageDto getPageByOwner(Long userId, String state, String cursor, int size) {
+        userService.checkExists(userId);
+        return getPage(BookingSpecifications.byItemOwner(userId), state, cursor, size);
+    }
+
+    @Override
+    public BookingPageDto getPageByBooker(Long userId, String state, String cursor, int size) {
+        userService.checkExists(userId);
+        return getPage(BookingSpecifications.byBooker(userId), state, cursor, size);
+    }
+
+    private BookingPageDto getPage(Specification<Booking> byUser, String state, String cursor, int size) {
+        if (size <= 0) {
+            throw new BadRequestException("Не правильно переданы параметры поиска, размер страницы должен быть " +
+                    "больше нуля");
         }
-        return toBookingResponseDto(bookings);
+        BookingCursor after = cursor == null || cursor.isBlank() ? null : BookingCursor.decode(cursor);
+        Specification<Booking> specification = byUser
+                .and(BookingSpecifications.byState(state, LocalDateTime.now()))
+                .and(BookingSpecifications.after(after));
+        List<Booking> bookings = bookingRepository.findAll(specification, 0, size + 1);
+        String nextCursor = null;
+        if (bookings.size() > size) {
+            bookings = bookings.subList(0, size);
+            nextCursor = BookingCursor.of(bookings.get(size - 1)).encode();
+        }
+        return BookingPageDto.builder()
+                .bookings(toBookingResponseDto(bookings))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static Status decidedStatus(boolean approve) {
+        return approve ? Status.APPROVED : Status.REJECTED;
     }
 }
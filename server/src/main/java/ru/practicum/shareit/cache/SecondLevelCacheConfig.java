@@ -0,0 +1,93 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Кэш второго уровня Hibernate для редко меняющихся сущностей ({@code User}, {@code Item}, {@code ItemRequest})
+ * и кэш запросов. Регионы создаются здесь, а не провайдером JCache по требованию: у каждого региона есть предел
+ * размера из {@code shareit.cache.second-level.regions}, и Hibernate не запустится, если для региона предел
+ * не задан. Менеджер кэшей свой у каждого контекста Spring, поэтому тестовые контексты не делят кэш между собой.
+ * Регион меток обновления таблиц не ограничивается: вытесненная метка сделала бы устаревший результат запроса
+ * актуальным, а записей в нем не больше, чем таблиц.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(name = "shareit.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+    private static final String CACHE_MANAGER_TAG = "hibernate";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("shareit-second-level-" + UUID.randomUUID()),
+                        getClass().getClassLoader());
+        properties.getRegions().forEach((region, maximumSize) -> {
+            CaffeineConfiguration<Object, Object> configuration = configuration();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.getExpireAfterWrite().toNanos()));
+            cacheManager.createCache(region, configuration);
+        });
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    /**
+     * Публикует для каждого региона обращения, вставки и вытеснения по статистике JCache и текущий размер.
+     * Попадания и промахи с точки зрения Hibernate (по регионам и для кэша запросов) публикуются автоконфигурацией
+     * метрик Hibernate, поскольку включена статистика сессий.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (String region : secondLevelCacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = secondLevelCacheManager.getCache(region);
+                JCacheMetrics.monitor(registry, cache);
+                com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine =
+                        cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+                Gauge.builder("cache.size", caffeine, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                        .tags("cache", region, "cacheManager", CACHE_MANAGER_TAG)
+                        .description("Примерное число записей в регионе кэша второго уровня")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
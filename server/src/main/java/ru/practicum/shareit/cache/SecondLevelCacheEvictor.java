@@ -0,0 +1,38 @@
+package ru.practicum.shareit.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Убирает из кэша второго уровня строки, которые база удалила каскадом вместе с пользователем. Hibernate удаляет
+ * только саму строку пользователя и не помечает таблицы вещей и запросов измененными, поэтому сбрасываются и
+ * записи удаленных вещей и запросов, и все закэшированные результаты запросов.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheEvictor {
+    private final Cache cache;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        event.getItemIds().forEach(id -> cache.evictEntityData(Item.class, id));
+        event.getRequestIds().forEach(id -> cache.evictEntityData(ItemRequest.class, id));
+        cache.evictQueryRegions();
+        log.debug("Из кэша второго уровня убраны {} вещей и {} запросов пользователя с id {}",
+                event.getItemIds().size(), event.getRequestIds().size(), event.getUserId());
+    }
+}
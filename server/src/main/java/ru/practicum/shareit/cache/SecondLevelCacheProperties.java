@@ -0,0 +1,18 @@
+package ru.practicum.shareit.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.cache.second-level")
+public class SecondLevelCacheProperties {
+    private boolean enabled = true;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+    private Map<String, Long> regions = new LinkedHashMap<>();
+}
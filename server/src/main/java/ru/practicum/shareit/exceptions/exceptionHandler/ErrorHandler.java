@@ -1,10 +1,12 @@
 package ru.practicum.shareit.exceptions.exceptionHandler;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
 
 import java.util.List;
@@ -39,4 +41,16 @@ public class ErrorHandler {
     public ErrorResponse handleBadRequestException(final BadRequestException e) {
         return new ErrorResponse(e.getParameter());
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConflictException(final ConflictException e) {
+        return new ErrorResponse(e.getParameter());
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleOptimisticLockingFailureException(final OptimisticLockingFailureException e) {
+        return new ErrorResponse("Данные изменены другим запросом, повторите попытку");
+    }
 }
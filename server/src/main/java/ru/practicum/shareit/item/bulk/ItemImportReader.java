@@ -0,0 +1,120 @@
+package ru.practicum.shareit.item.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Читает загрузку предметов по одной строке: JSON-массив объектов или NDJSON (объект на строку).
+ * Документ целиком в память не попадает, в каждый момент разобран только текущий объект. Объект, который
+ * не удалось прочитать как {@code T}, возвращается строкой с ошибкой, и чтение продолжается. Синтаксическая
+ * ошибка в NDJSON портит только свою строку, а в JSON-массиве делает продолжение невозможным, поэтому
+ * обрывает загрузку исключением {@link ItemImportSyntaxException}.
+ */
+public class ItemImportReader<T> implements Iterator<ItemImportRow<T>> {
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+    private final JsonParser array;
+    private final BufferedReader lines;
+    private int row;
+    private ItemImportRow<T> next;
+
+    public ItemImportReader(ObjectMapper mapper, InputStream body, boolean ndjson, Class<T> type) {
+        this.mapper = mapper;
+        this.type = type;
+        try {
+            if (ndjson) {
+                array = null;
+                lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            } else {
+                array = mapper.getFactory().createParser(body);
+                lines = null;
+                if (array.nextToken() != JsonToken.START_ARRAY) {
+                    throw new BadRequestException("Ожидается JSON-массив предметов");
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Некорректный JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = array != null ? readElement() : readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ItemImportRow<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ItemImportRow<T> current = next;
+        next = null;
+        return current;
+    }
+
+    private ItemImportRow<T> readElement() throws IOException {
+        int element = row + 1;
+        JsonNode node;
+        try {
+            JsonToken token = array.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            node = array.readValueAsTree();
+        } catch (JsonProcessingException e) {
+            throw new ItemImportSyntaxException(element, String.format("Некорректный JSON в элементе %d: %s",
+                    element, e.getOriginalMessage()));
+        }
+        row = element;
+        return convert(node);
+    }
+
+    private ItemImportRow<T> readLine() throws IOException {
+        String line;
+        do {
+            line = lines.readLine();
+            if (line == null) {
+                return null;
+            }
+            row++;
+        } while (line.isBlank());
+        try {
+            return convert(mapper.readTree(line));
+        } catch (JsonProcessingException e) {
+            return ItemImportRow.failed(row, "Некорректный JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ItemImportRow<T> convert(JsonNode node) {
+        if (!node.isObject()) {
+            return ItemImportRow.failed(row, "Ожидается JSON-объект предмета");
+        }
+        try {
+            return ItemImportRow.of(row, mapper.treeToValue(node, type));
+        } catch (JsonProcessingException e) {
+            return ItemImportRow.failed(row, "Некорректное значение поля: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.bulk;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemImportRow<T> {
+    private final int row;
+    @Nullable
+    private final T item;
+    @Nullable
+    private final String error;
+
+    public static <T> ItemImportRow<T> of(int row, T item) {
+        return new ItemImportRow<>(row, item, null);
+    }
+
+    public static <T> ItemImportRow<T> failed(int row, String error) {
+        return new ItemImportRow<>(row, null, error);
+    }
+}
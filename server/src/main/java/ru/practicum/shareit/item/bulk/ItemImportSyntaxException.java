@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.bulk;
+
+import lombok.Getter;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+/**
+ * Синтаксическая ошибка в JSON-массиве загрузки, после которой чтение продолжить нельзя. Хранит номер элемента,
+ * на котором чтение оборвалось.
+ */
+@Getter
+public class ItemImportSyntaxException extends BadRequestException {
+    private final int row;
+
+    public ItemImportSyntaxException(int row, String parameter) {
+        super(parameter);
+        this.row = row;
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ItemChangedEvent {
+    private final Long itemId;
+}
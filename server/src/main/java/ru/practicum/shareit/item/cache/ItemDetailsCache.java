@@ -0,0 +1,214 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+import ru.practicum.shareit.user.cache.UserRenamedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Кэш собранных карточек предметов: отдельно вид для владельца (с бронированиями) и для остальных.
+ * Чтение из базы начинается с {@link #beginLoad}, и собранная карточка кладется в кэш, только если с тех пор
+ * предмет не сбрасывался: иначе чтение, начатое до фиксации изменения, вернуло бы в кэш устаревшую карточку
+ * на весь срок жизни записи. Карточки изменяемы, поэтому кэш хранит и отдает копии.
+ */
+@Component
+@Slf4j
+public class ItemDetailsCache implements MeterBinder {
+    private static final String CACHE_NAME = "itemDetails";
+
+    private final StatsCounter publicViewStats = new ConcurrentStatsCounter();
+    private final StatsCounter ownerViewStats = new ConcurrentStatsCounter();
+    private final Cache<Long, Long> owners;
+    private final Cache<Long, ItemDto> publicViews;
+    private final Cache<Long, OwnerView> ownerViews;
+    private final Cache<Long, Long> loads;
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    public ItemDetailsCache(@Value("${shareit.cache.item-details.maximum-size:10000}") long maximumSize,
+                            @Value("${shareit.cache.item-details.expire-after-write:10m}") Duration expireAfterWrite) {
+        owners = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        publicViews = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats(() -> publicViewStats)
+                .build();
+        ownerViews = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new OwnerViewExpiry(expireAfterWrite))
+                .recordStats(() -> ownerViewStats)
+                .build();
+        loads = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Nullable
+    public ItemDto get(Long itemId, Long userId) {
+        Long ownerId = owners.getIfPresent(itemId);
+        if (ownerId == null) {
+            return null;
+        }
+        if (ownerId.equals(userId)) {
+            OwnerView ownerView = ownerViews.getIfPresent(itemId);
+            return ownerView == null ? null : copy(ownerView.item);
+        }
+        ItemDto publicView = publicViews.getIfPresent(itemId);
+        return publicView == null ? null : copy(publicView);
+    }
+
+    /**
+     * Отмечает начало чтения предмета из базы; возвращенный номер передается в {@code put*View}.
+     */
+    public long beginLoad(Long itemId) {
+        long load = loadSequence.incrementAndGet();
+        loads.put(itemId, load);
+        return load;
+    }
+
+    public void putPublicView(Long itemId, Long ownerId, ItemDto item, long load) {
+        ItemDto view = copy(item);
+        putIfNotEvicted(itemId, load, () -> {
+            rememberOwner(itemId, ownerId, publicViewStats);
+            publicViews.put(itemId, view);
+        });
+    }
+
+    public void putOwnerView(Long itemId, Long ownerId, ItemDto item, @Nullable LocalDateTime validUntil, long load) {
+        OwnerView view = new OwnerView(copy(item), validUntil);
+        putIfNotEvicted(itemId, load, () -> {
+            rememberOwner(itemId, ownerId, ownerViewStats);
+            ownerViews.put(itemId, view);
+        });
+    }
+
+    public void evict(Long itemId) {
+        loads.asMap().compute(itemId, (id, load) -> {
+            publicViews.invalidate(id);
+            ownerViews.invalidate(id);
+            return null;
+        });
+    }
+
+    private void putIfNotEvicted(Long itemId, long load, Runnable put) {
+        loads.asMap().computeIfPresent(itemId, (id, current) -> {
+            if (current == load) {
+                put.run();
+                return null;
+            }
+            return current;
+        });
+    }
+
+    private void rememberOwner(Long itemId, Long ownerId, StatsCounter viewStats) {
+        if (owners.asMap().putIfAbsent(itemId, ownerId) == null) {
+            viewStats.recordMisses(1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        log.debug("Сброс кэша предмета с id {}", event.getItemId());
+        evict(event.getItemId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        log.debug("Сброс кэша предметов удаленного пользователя с id {}", event.getUserId());
+        owners.asMap().entrySet().removeIf(owner -> {
+            if (event.getUserId().equals(owner.getValue()) || event.getItemIds().contains(owner.getKey())) {
+                evict(owner.getKey());
+                return true;
+            }
+            return false;
+        });
+        event.getItemIds().forEach(this::evict);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRenamed(UserRenamedEvent event) {
+        log.debug("Сброс кэша предметов с комментариями переименованного пользователя с id {}", event.getUserId());
+        event.getCommentedItemIds().forEach(this::evict);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, publicViews, CACHE_NAME, "view", "public");
+        CaffeineCacheMetrics.monitor(registry, ownerViews, CACHE_NAME, "view", "owner");
+    }
+
+    private static ItemDto copy(ItemDto item) {
+        return item.toBuilder()
+                .lastBooking(copy(item.getLastBooking()))
+                .nextBooking(copy(item.getNextBooking()))
+                .comments(item.getComments() == null ? null : item.getComments().stream()
+                        .map(comment -> comment.toBuilder().build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Nullable
+    private static BookingShortDto copy(@Nullable BookingShortDto booking) {
+        return booking == null ? null : booking.toBuilder().build();
+    }
+
+    private static class OwnerView {
+        private final ItemDto item;
+        private final LocalDateTime validUntil;
+
+        OwnerView(ItemDto item, @Nullable LocalDateTime validUntil) {
+            this.item = item;
+            this.validUntil = validUntil;
+        }
+    }
+
+    private static class OwnerViewExpiry implements Expiry<Long, OwnerView> {
+        private final Duration expireAfterWrite;
+
+        OwnerViewExpiry(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        @Override
+        public long expireAfterCreate(Long itemId, OwnerView view, long currentTime) {
+            if (view.validUntil == null) {
+                return expireAfterWrite.toNanos();
+            }
+            Duration untilNextBooking = Duration.between(LocalDateTime.now(), view.validUntil);
+            if (untilNextBooking.compareTo(expireAfterWrite) > 0) {
+                return expireAfterWrite.toNanos();
+            }
+            return Math.max(0, untilNextBooking.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Long itemId, OwnerView view, long currentTime, long currentDuration) {
+            return expireAfterCreate(itemId, view, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long itemId, OwnerView view, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ItemImportResultDto {
+    private int received;
+    private int created;
+    private int failed;
+    private List<ItemImportErrorDto> errors = new ArrayList<>();
+}
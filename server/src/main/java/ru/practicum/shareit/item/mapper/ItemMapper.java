@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.mapper;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.IndexedItem;
 
 
 public class ItemMapper {
@@ -16,6 +17,16 @@ public class ItemMapper {
                 .build();
     }
 
+    public static ItemDto toItemDto(IndexedItem item) {
+        return ItemDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(true)
+                .requestId(item.getRequestId())
+                .build();
+    }
+
     public static Item toItem(ItemDto itemDto) {
         return Item.builder()
                 .id(itemDto.getId())
@@ -34,4 +45,14 @@ public class ItemMapper {
                 .requestId(item.getRequest().getId())
                 .build();
     }
+
+    public static ItemShortDto toItemShortDto(ItemDto itemDto) {
+        return ItemShortDto.builder()
+                .id(itemDto.getId())
+                .name(itemDto.getName())
+                .description(itemDto.getDescription())
+                .available(itemDto.getAvailable())
+                .requestId(itemDto.getRequestId())
+                .build();
+    }
 }
@@ -3,15 +3,38 @@ package ru.practicum.shareit.item.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+    @Query("select i from Item i where i.owner.id = ?1 order by i.id asc")
     Page<Item> findAllByOwnerIdOrderByIdAsc(Long userId, Pageable pageable);
 
-    List<Item> findAllByRequestId(Long itemId);
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select i from Item i where i.request.id in ?1")
+    List<Item> findAllByRequestIdIn(Collection<Long> requestIds);
+
+    @Query("select i.id from Item i where i.owner.id = ?1")
+    List<Long> findIdsByOwnerId(Long ownerId);
+
+    @Query("select i.id from Item i where i.request.id in ?1")
+    List<Long> findIdsByRequestIdIn(Collection<Long> requestIds);
+
+    List<Item> findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = ?1")
+    Optional<Item> findByIdForUpdate(Long itemId);
 
     @Query(" select i from Item i " +
             "where i.available = true and upper(i.name) like upper(concat('%', ?1, '%')) " +
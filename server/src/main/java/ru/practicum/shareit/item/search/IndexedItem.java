@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class IndexedItem {
+    private final long id;
+    private final String name;
+    private final String description;
+    private final Long requestId;
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import lombok.ToString;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+@Getter
+@ToString(callSuper = true)
+public class ItemCreatedEvent extends ItemSavedEvent {
+    private final Long ownerId;
+
+    public ItemCreatedEvent(ItemDto item, Long ownerId) {
+        super(item);
+        this.ownerId = ownerId;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import lombok.ToString;
+import ru.practicum.shareit.item.cache.ItemChangedEvent;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+@Getter
+@ToString(callSuper = true)
+public class ItemSavedEvent extends ItemChangedEvent {
+    private final ItemDto item;
+
+    public ItemSavedEvent(ItemDto item) {
+        super(item.getId());
+        this.item = item;
+    }
+}
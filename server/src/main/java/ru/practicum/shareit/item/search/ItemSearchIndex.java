@@ -0,0 +1,221 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+@Slf4j
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ItemRepository repository;
+    private final boolean enabled;
+    private final ConcurrentNavigableMap<Long, IndexedItem> items = new ConcurrentSkipListMap<>();
+    private final Map<Long, NavigableSet<Long>> postings = new ConcurrentHashMap<>();
+    private final Set<Long> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public ItemSearchIndex(ItemRepository repository,
+                           @Value("${shareit.search.index.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long lastId = 0;
+        List<Item> batch;
+        do {
+            batch = repository.findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(lastId,
+                    PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Item item : batch) {
+                putIfUnchanged(new IndexedItem(item.getId(), item.getName(), item.getDescription(),
+                        item.getRequest() == null ? null : item.getRequest().getId()));
+                lastId = item.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        ready = true;
+        changedDuringLoad.clear();
+        log.info("Поисковый индекс построен, предметов в индексе: {}", items.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemSaved(ItemSavedEvent event) {
+        ItemDto item = event.getItem();
+        if (Boolean.TRUE.equals(item.getAvailable())) {
+            put(new IndexedItem(item.getId(), item.getName(), item.getDescription(), item.getRequestId()));
+        } else {
+            remove(item.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        event.getItemIds().forEach(this::remove);
+    }
+
+    public List<IndexedItem> search(String text, int offset, int size) {
+        Iterable<Long> candidates;
+        List<NavigableSet<Long>> filters = new ArrayList<>();
+        if (text.length() < GRAM_LENGTH) {
+            candidates = items.keySet();
+        } else {
+            for (Long gram : grams(text)) {
+                NavigableSet<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptyList();
+                }
+                filters.add(ids);
+            }
+            filters.sort(Comparator.comparingInt(Set::size));
+            candidates = filters.remove(0);
+        }
+
+        List<IndexedItem> result = new ArrayList<>(size);
+        int skipped = 0;
+        for (Long id : candidates) {
+            if (!containsAll(filters, id)) {
+                continue;
+            }
+            IndexedItem item = items.get(id);
+            if (item == null || !matches(item, text)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result.add(item);
+            if (result.size() == size) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    private synchronized void put(IndexedItem item) {
+        if (!ready) {
+            changedDuringLoad.add(item.getId());
+        }
+        index(item);
+    }
+
+    private synchronized void remove(long itemId) {
+        if (!ready) {
+            changedDuringLoad.add(itemId);
+        }
+        IndexedItem previous = items.remove(itemId);
+        if (previous != null) {
+            removePostings(itemId, grams(previous));
+        }
+    }
+
+    private synchronized void putIfUnchanged(IndexedItem item) {
+        if (!changedDuringLoad.contains(item.getId())) {
+            index(item);
+        }
+    }
+
+    private void index(IndexedItem item) {
+        IndexedItem previous = items.put(item.getId(), item);
+        Set<Long> grams = grams(item);
+        if (previous != null) {
+            Set<Long> staleGrams = grams(previous);
+            staleGrams.removeAll(grams);
+            removePostings(previous.getId(), staleGrams);
+        }
+        for (Long gram : grams) {
+            postings.computeIfAbsent(gram, key -> new ConcurrentSkipListSet<>()).add(item.getId());
+        }
+    }
+
+    private void removePostings(long itemId, Set<Long> grams) {
+        for (Long gram : grams) {
+            NavigableSet<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(itemId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(List<NavigableSet<Long>> filters, Long id) {
+        for (NavigableSet<Long> filter : filters) {
+            if (!filter.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(IndexedItem item, String text) {
+        return containsIgnoreCase(item.getName(), text) || containsIgnoreCase(item.getDescription(), text);
+    }
+
+    private static boolean containsIgnoreCase(String value, String text) {
+        for (int i = 0; i <= value.length() - text.length(); i++) {
+            if (value.regionMatches(true, i, text, 0, text.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Long> grams(IndexedItem item) {
+        Set<Long> grams = grams(item.getName());
+        grams.addAll(grams(item.getDescription()));
+        return grams;
+    }
+
+    private static Set<Long> grams(String value) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            long gram = 0;
+            for (int j = i; j < i + GRAM_LENGTH; j++) {
+                gram = (gram << Character.SIZE) | fold(value.charAt(j));
+            }
+            grams.add(gram);
+        }
+        return grams;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.bulk.ItemImportRow;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 
+import java.util.Iterator;
 import java.util.List;
 
 public interface ItemService {
@@ -12,6 +15,8 @@ public interface ItemService {
 
     ItemDto create(ItemDto itemDto, Long userId);
 
+    ItemImportResultDto importItems(Long userId, Iterator<ItemImportRow<ItemDto>> rows);
+
     ItemDto update(ItemDto itemDto, Long itemId, Long userId);
 
     List<ItemDto> search(String text,  int from, int size);
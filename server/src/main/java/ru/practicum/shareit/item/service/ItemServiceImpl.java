@@ -2,23 +2,37 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.item.bulk.ItemImportRow;
+import ru.practicum.shareit.item.bulk.ItemImportSyntaxException;
+import ru.practicum.shareit.item.cache.ItemChangedEvent;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportErrorDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemCreatedEvent;
+import ru.practicum.shareit.item.search.ItemSavedEvent;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -28,7 +42,13 @@ import ru.practicum.shareit.user.service.UserService;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.booking.mapper.BookingMapper.toBookingShortDto;
@@ -42,12 +62,23 @@ import static ru.practicum.shareit.user.mapper.UserMapper.toUser;
 @RequiredArgsConstructor
 @Slf4j
 public class ItemServiceImpl implements ItemService {
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String IMPORT_SAVE_FAILED = "Загрузка прервана после ошибки сохранения";
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 512;
+
     private final ItemRepository repository;
     private final UserService userService;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemDetailsCache itemDetailsCache;
+    private final ItemSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
+    @Transactional(readOnly = true)
     @Override
     public List<ItemDto> findAll(Long userId, int from, int size) {
         if (from < 0 || size <= 0) {
@@ -59,28 +90,39 @@ public class ItemServiceImpl implements ItemService {
                 size
         );
         List<Item> items = repository.findAllByOwnerIdOrderByIdAsc(userId, pageable).toList();
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        List<Long> itemIds = items.stream().map(Item::getId).collect(Collectors.toList());
+        Map<Long, List<CommentDto>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toCommentDto, Collectors.toList())));
+        Map<Long, Booking> lastBookings = firstByItem(bookingRepository.findLastBookingsByItemIdIn(itemIds, now));
+        Map<Long, Booking> nextBookings = firstByItem(bookingRepository.findNextBookingsByItemIdIn(itemIds, now));
         List<ItemDto> itemDtos = new ArrayList<>();
         for (Item item : items) {
             ItemDto itemDto = toItemDto(item);
-            itemDto.setComments(commentRepository.findAllByItemId(itemDto.getId()).stream().map(CommentMapper::toCommentDto)
-                    .collect(Collectors.toList()));
-            itemDto.setLastBooking(bookingRepository.findAllByItemIdAndEndBeforeOrderByStartAsc(itemDto.getId(),
-                    LocalDateTime.now()).isEmpty() ? null :
-                    toBookingShortDto(bookingRepository.findAllByItemIdAndEndBeforeOrderByStartAsc(itemDto.getId(),
-                            LocalDateTime.now()).get(0)));
-            if (itemDto.getLastBooking() != null) {
-                itemDto.setNextBooking(bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(itemDto.getId(),
-                        LocalDateTime.now()).isEmpty() ? null :
-                        toBookingShortDto(bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(itemDto.getId(),
-                                LocalDateTime.now()).get(0)));
+            itemDto.setComments(comments.getOrDefault(item.getId(), new ArrayList<>()));
+            Booking lastBooking = lastBookings.get(item.getId());
+            if (lastBooking != null) {
+                itemDto.setLastBooking(toBookingShortDto(lastBooking));
+                Booking nextBooking = nextBookings.get(item.getId());
+                itemDto.setNextBooking(nextBooking == null ? null : toBookingShortDto(nextBooking));
             }
             itemDtos.add(itemDto);
         }
         return itemDtos;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public ItemDto findById(Long id, Long ownerId) {
+        ItemDto cachedItem = itemDetailsCache.get(id, ownerId);
+        if (cachedItem != null) {
+            return cachedItem;
+        }
+        long load = itemDetailsCache.beginLoad(id);
         final LocalDateTime now = LocalDateTime.now();
         Item item = repository.findById(id).orElseThrow(
                 () -> new DataNotFoundException(String.format("Предмет с id %d не найден", id)));
@@ -88,15 +130,17 @@ public class ItemServiceImpl implements ItemService {
         itemDto.setComments(commentRepository.findAllByItemId(id).stream().map(CommentMapper::toCommentDto)
                 .collect(Collectors.toList()));
         if (ownerId.equals(item.getOwner().getId())) {
-            itemDto.setLastBooking(bookingRepository.findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc(id,
-                    ownerId, now).isEmpty() ? null :
-                    toBookingShortDto(bookingRepository.findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc(id,
-                            ownerId, now).get(0)));
-            if (itemDto.getLastBooking() != null) {
-                itemDto.setNextBooking(bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(itemDto.getId(),
-                        LocalDateTime.now()).isEmpty() ? null :
-                        toBookingShortDto(bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(id, now).get(0)));
+            List<Booking> lastBookings = bookingRepository.findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc(id,
+                    ownerId, now);
+            List<Booking> nextBookings = bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(id, now);
+            if (!lastBookings.isEmpty()) {
+                itemDto.setLastBooking(toBookingShortDto(lastBookings.get(0)));
+                itemDto.setNextBooking(nextBookings.isEmpty() ? null : toBookingShortDto(nextBookings.get(0)));
             }
+            itemDetailsCache.putOwnerView(id, ownerId, itemDto,
+                    nextBookings.isEmpty() ? null : nextBookings.get(0).getStart(), load);
+        } else {
+            itemDetailsCache.putPublicView(id, item.getOwner().getId(), itemDto, load);
         }
         return itemDto;
     }
@@ -113,16 +157,66 @@ public class ItemServiceImpl implements ItemService {
             item.setRequest(itemRequest);
         }
         repository.save(item);
+        eventPublisher.publishEvent(new ItemCreatedEvent(toItemDto(item), user.getId()));
         return toItemDto(item);
     }
 
+    /**
+     * Создает предметы из потока строк загрузки. Строки проверяются по мере чтения, а корректные сохраняются
+     * порциями по {@value #IMPORT_CHUNK_SIZE}, каждая в своей транзакции: так память ограничена одной порцией,
+     * включая события о новых предметах, которые ждут фиксации транзакции. Внутри порции Hibernate отправляет
+     * вставки пакетами JDBC. Ошибочные строки не прерывают загрузку и попадают в отчет с номером строки.
+     * Пока ничего не сохранено, синтаксическая ошибка JSON или ошибка сохранения прерывают загрузку целиком.
+     * После сохраненных порций возвращается частичный результат: строки несохраненной порции и все последующие
+     * строки попадают в ошибки, чтобы клиент знал, что повторять.
+     */
+    @Override
+    public ItemImportResultDto importItems(Long userId, Iterator<ItemImportRow<ItemDto>> rows) {
+        User owner = toUser(userService.getById(userId));
+        ItemImportResultDto result = new ItemImportResultDto();
+        List<ItemDto> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<Integer> chunkRows = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        String stopped = null;
+        try {
+            while (rows.hasNext()) {
+                ItemImportRow<ItemDto> row = rows.next();
+                result.setReceived(result.getReceived() + 1);
+                String error = stopped != null ? stopped
+                        : row.getError() != null ? row.getError() : validateImported(row.getItem());
+                if (error != null) {
+                    addImportError(result, row.getRow(), error);
+                    continue;
+                }
+                chunk.add(row.getItem());
+                chunkRows.add(row.getRow());
+                if (chunk.size() == IMPORT_CHUNK_SIZE && !saveImported(chunk, chunkRows, owner, result)) {
+                    stopped = IMPORT_SAVE_FAILED;
+                }
+            }
+        } catch (ItemImportSyntaxException e) {
+            if (result.getCreated() == 0) {
+                throw e;
+            }
+            result.setReceived(result.getReceived() + 1);
+            addImportError(result, e.getRow(), e.getParameter());
+            failImported(result, chunk, chunkRows, "Загрузка прервана: " + e.getParameter());
+        }
+        if (!chunk.isEmpty()) {
+            saveImported(chunk, chunkRows, owner, result);
+        }
+        result.getErrors().sort(Comparator.comparingInt(ItemImportErrorDto::getRow));
+        log.info("Пользователь с id {} загрузил предметы: получено {}, создано {}, ошибок {}", userId,
+                result.getReceived(), result.getCreated(), result.getFailed());
+        return result;
+    }
+
     @Transactional
     @Override
     public ItemDto update(ItemDto itemDto, Long itemId, Long userId) {
-        UserDto user = userService.getById(userId);
+        userService.checkExists(userId);
         Item item = repository.findById(itemId).orElseThrow(
                 () -> new DataNotFoundException(String.format("Предмет с id %d не найден", itemId)));
-        if (!item.getOwner().equals(toUser(user))) {
+        if (item.getOwner().getId() != userId) {
             throw new DataNotFoundException(String.format("Этот предмет не принадлежит пользователю с id %d", userId));
         }
         if (itemDto.getName() != null) {
@@ -134,7 +228,9 @@ public class ItemServiceImpl implements ItemService {
         if (itemDto.getAvailable() != null) {
             item.setAvailable(itemDto.getAvailable());
         }
-        return toItemDto(repository.save(item));
+        Item savedItem = repository.save(item);
+        eventPublisher.publishEvent(new ItemSavedEvent(toItemDto(savedItem)));
+        return toItemDto(savedItem);
     }
 
     @Override
@@ -150,8 +246,13 @@ public class ItemServiceImpl implements ItemService {
                 from == 0 ? 0 : (from / size),
                 size
         );
-        String textForSearch = text.toLowerCase();
-        return repository.search(textForSearch, pageable)
+        if (searchIndex.isReady()) {
+            return searchIndex.search(text, (int) pageable.getOffset(), size)
+                    .stream()
+                    .map(ItemMapper::toItemDto)
+                    .collect(Collectors.toList());
+        }
+        return repository.search(text, pageable)
                 .stream()
                 .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
@@ -169,6 +270,113 @@ public class ItemServiceImpl implements ItemService {
         }
         Comment comment = toComment(commentDto, user, item);
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
         return toCommentDto(comment);
     }
+
+    private String validateImported(ItemDto itemDto) {
+        if (itemDto.getName() == null || itemDto.getName().isBlank()) {
+            return "Название не может быть пустым";
+        }
+        if (itemDto.getName().length() > MAX_NAME_LENGTH) {
+            return String.format("Название длиннее %d символов", MAX_NAME_LENGTH);
+        }
+        if (itemDto.getDescription() == null || itemDto.getDescription().isBlank()) {
+            return "Описание не может быть пустым";
+        }
+        if (itemDto.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            return String.format("Описание длиннее %d символов", MAX_DESCRIPTION_LENGTH);
+        }
+        if (itemDto.getAvailable() == null) {
+            return "Не указана доступность предмета";
+        }
+        return null;
+    }
+
+    /**
+     * Сохраняет порцию в отдельной транзакции и очищает ее. Перед сохранением из порции убираются строки со
+     * ссылками на несуществующие запросы: все запросы порции проверяются одним запросом к базе. Если порция
+     * не сохранилась, а до нее ничего сохранено не было, ошибка пробрасывается, иначе строки порции попадают
+     * в ошибки.
+     */
+    private boolean saveImported(List<ItemDto> chunk, List<Integer> chunkRows, User owner,
+                                 ItemImportResultDto result) {
+        Integer saved;
+        try {
+            rejectMissingRequests(chunk, chunkRows, result);
+            saved = chunk.isEmpty() ? null : transactionOperations.execute(status -> {
+                List<Item> items = new ArrayList<>(chunk.size());
+                for (ItemDto itemDto : chunk) {
+                    Item item = toItem(itemDto);
+                    item.setId(0);
+                    item.setOwner(owner);
+                    if (itemDto.getRequestId() != null) {
+                        item.setRequest(itemRequestRepository.getReferenceById(itemDto.getRequestId()));
+                    }
+                    items.add(item);
+                }
+                repository.saveAll(items);
+                for (Item item : items) {
+                    eventPublisher.publishEvent(new ItemCreatedEvent(toItemDto(item), owner.getId()));
+                }
+                return items.size();
+            });
+        } catch (DataAccessException | TransactionException e) {
+            if (result.getCreated() == 0) {
+                throw e;
+            }
+            log.warn("Порция загрузки предметов пользователя с id {} не сохранена", owner.getId(), e);
+            failImported(result, chunk, chunkRows, "Порция не сохранена из-за ошибки сервера");
+            return false;
+        }
+        result.setCreated(result.getCreated() + (saved == null ? 0 : saved));
+        chunk.clear();
+        chunkRows.clear();
+        return true;
+    }
+
+    private void rejectMissingRequests(List<ItemDto> chunk, List<Integer> chunkRows, ItemImportResultDto result) {
+        Set<Long> requestIds = chunk.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = itemRequestRepository.findExistingIds(requestIds);
+        Iterator<ItemDto> items = chunk.iterator();
+        Iterator<Integer> rows = chunkRows.iterator();
+        while (items.hasNext()) {
+            Long requestId = items.next().getRequestId();
+            int row = rows.next();
+            if (requestId != null && !existing.contains(requestId)) {
+                addImportError(result, row, String.format("Запрос с id = %d не найден", requestId));
+                items.remove();
+                rows.remove();
+            }
+        }
+    }
+
+    private static void failImported(ItemImportResultDto result, List<ItemDto> chunk, List<Integer> chunkRows,
+                                     String error) {
+        chunkRows.forEach(row -> addImportError(result, row, error));
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    private static void addImportError(ItemImportResultDto result, int row, String error) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ItemImportErrorDto(row, error));
+        }
+    }
+
+    private Map<Long, Booking> firstByItem(List<Booking> bookings) {
+        Map<Long, Booking> result = new HashMap<>();
+        for (Booking booking : bookings) {
+            result.merge(booking.getItem().getId(), booking,
+                    (current, candidate) -> candidate.getId() < current.getId() ? candidate : current);
+        }
+        return result;
+    }
 }
@@ -2,34 +2,37 @@ package ru.practicum.shareit.itemRequest;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestDto;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestPageDto;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.itemRequest.dto.RequestMatchDto;
 import ru.practicum.shareit.itemRequest.service.ItemRequestService;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(path = "/requests")
 @AllArgsConstructor
 @Slf4j
 public class ItemRequestController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final ItemRequestService itemRequestService;
 
     @PostMapping
     public ItemRequestResponseDto create(@RequestHeader("X-Sharer-User-Id") Long userId,
                                          @RequestBody ItemRequestDto itemRequestDto) {
-        log.info("Пришел /POST запрос на создание запроса {} от пользователя с id {}", itemRequestDto, userId);
+        log.debug("Пришел /POST запрос на создание запроса {} от пользователя с id {}", itemRequestDto, userId);
         ItemRequestResponseDto itemRequestResponseDto = itemRequestService.create(userId, itemRequestDto);
-        log.info("Ответ отправлен {}", itemRequestResponseDto);
         return itemRequestResponseDto;
     }
 
     @GetMapping
     public List<ItemRequestResponseDto> getAllByUser(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел /GET запрос на получение списка запросов от пользователя с id {}", userId);
+        log.debug("Пришел /GET запрос на получение списка запросов от пользователя с id {}", userId);
         List<ItemRequestResponseDto> itemRequestResponseDtos = itemRequestService.getAllByUser(userId);
-        log.info("Ответ отправлен {}", itemRequestResponseDtos);
         return itemRequestResponseDtos;
     }
 
@@ -37,19 +40,39 @@ public class ItemRequestController {
     public List<ItemRequestResponseDto> getAll(@RequestParam(defaultValue = "0") int from,
                                                @RequestParam(defaultValue = "10") int size,
                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел /GET запрос на получение списка запросов от пользователя с id {} созданных другим пользователем",
+        log.debug("Пришел /GET запрос на получение списка запросов от пользователя с id {} созданных другим пользователем",
                 userId);
         List<ItemRequestResponseDto> itemRequestResponseDtos = itemRequestService.getAll(from, size, userId);
-        log.info("Ответ отправлен {}", itemRequestResponseDtos);
         return itemRequestResponseDtos;
     }
 
+    @GetMapping(path = "/all", params = "cursor")
+    public ResponseEntity<List<ItemRequestResponseDto>> getPage(@RequestParam String cursor,
+                                                                @RequestParam(defaultValue = "10") int size,
+                                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.debug("Пришел /GET запрос на получение страницы запросов других пользователей для пользователя с id {} " +
+                "и курсором {}", userId, cursor);
+        ItemRequestPageDto page = itemRequestService.getPage(cursor, size, userId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getRequests());
+    }
+
+    @GetMapping("/matches")
+    public CompletableFuture<List<RequestMatchDto>> getMatches(@RequestParam(defaultValue = "0") long after,
+                                                               @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.debug("Пришел /GET запрос на ожидание подходящих предметов для запросов пользователя с id {} после {}",
+                userId, after);
+        return itemRequestService.getMatches(after, userId);
+    }
+
     @GetMapping("/{requestId}")
     public ItemRequestResponseDto getById(@PathVariable Long requestId,
                                           @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Пришел /GET запрос на получение запроса по id");
+        log.debug("Пришел /GET запрос на получение запроса по id");
         ItemRequestResponseDto itemRequestResponseDto = itemRequestService.getById(requestId, userId);
-        log.info("Ответ отправлен {}", itemRequestResponseDto);
         return itemRequestResponseDto;
     }
 }
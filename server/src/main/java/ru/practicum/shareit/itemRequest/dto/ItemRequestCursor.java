@@ -0,0 +1,28 @@
+package ru.practicum.shareit.itemRequest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.pagination.KeysetCursorCodec;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ItemRequestCursor {
+    private final LocalDateTime created;
+    private final Long id;
+
+    public static ItemRequestCursor of(ItemRequest itemRequest) {
+        return new ItemRequestCursor(itemRequest.getCreated(), itemRequest.getId());
+    }
+
+    public String encode() {
+        return KeysetCursorCodec.encode(created, id);
+    }
+
+    public static ItemRequestCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 2, keys ->
+                new ItemRequestCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+    }
+}
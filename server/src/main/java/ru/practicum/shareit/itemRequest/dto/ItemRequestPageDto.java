@@ -0,0 +1,13 @@
+package ru.practicum.shareit.itemRequest.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ItemRequestPageDto {
+    private List<ItemRequestResponseDto> requests;
+    private String nextCursor;
+}
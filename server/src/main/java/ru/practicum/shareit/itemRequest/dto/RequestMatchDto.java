@@ -0,0 +1,13 @@
+package ru.practicum.shareit.itemRequest.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+@Data
+@Builder
+public class RequestMatchDto {
+    private long sequence;
+    private Long requestId;
+    private ItemShortDto item;
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.itemRequest.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ItemRequestCreatedEvent {
+    private final Long requestId;
+    private final Long requesterId;
+    private final String description;
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.itemRequest.matching;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.itemRequest.dto.RequestMatchDto;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class RequestMatchNotifier {
+    private static final int INBOX_CAPACITY = 100;
+
+    private final Duration pollTimeout;
+    private final Cache<Long, Inbox> inboxes;
+    private final AtomicLong sequence = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+
+    public RequestMatchNotifier(@Value("${shareit.matching.poll-timeout:5s}") Duration pollTimeout,
+                                @Value("${shareit.matching.inbox-idle-timeout:1h}") Duration inboxIdleTimeout) {
+        this.pollTimeout = pollTimeout;
+        this.inboxes = Caffeine.newBuilder()
+                .expireAfterAccess(inboxIdleTimeout)
+                .build();
+    }
+
+    public void publish(Long userId, Long requestId, ItemShortDto item) {
+        Inbox inbox = inboxes.get(userId, id -> new Inbox());
+        List<Waiter> ready;
+        synchronized (inbox) {
+            inbox.matches.addLast(RequestMatchDto.builder()
+                    .sequence(sequence.incrementAndGet())
+                    .requestId(requestId)
+                    .item(item)
+                    .build());
+            if (inbox.matches.size() > INBOX_CAPACITY) {
+                inbox.matches.removeFirst();
+            }
+            ready = new ArrayList<>(inbox.waiters);
+            inbox.waiters.clear();
+        }
+        log.debug("Пользователю с id {} отправлено совпадение запроса {} с предметом {}", userId, requestId,
+                item.getId());
+        for (Waiter waiter : ready) {
+            waiter.future.complete(inbox.after(waiter.after));
+        }
+    }
+
+    public CompletableFuture<List<RequestMatchDto>> poll(Long userId, long after) {
+        Inbox inbox = inboxes.get(userId, id -> new Inbox());
+        Waiter waiter;
+        synchronized (inbox) {
+            List<RequestMatchDto> matches = inbox.after(after);
+            if (!matches.isEmpty() || pollTimeout.isZero()) {
+                return CompletableFuture.completedFuture(matches);
+            }
+            waiter = new Waiter(after);
+            inbox.waiters.add(waiter);
+        }
+        waiter.future.whenComplete((matches, e) -> {
+            synchronized (inbox) {
+                inbox.waiters.remove(waiter);
+            }
+        });
+        return waiter.future.completeOnTimeout(List.of(), pollTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static class Inbox {
+        private final Deque<RequestMatchDto> matches = new ArrayDeque<>();
+        private final List<Waiter> waiters = new ArrayList<>();
+
+        private synchronized List<RequestMatchDto> after(long after) {
+            return matches.stream()
+                    .filter(match -> match.getSequence() > after)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static class Waiter {
+        private final long after;
+        private final CompletableFuture<List<RequestMatchDto>> future = new CompletableFuture<>();
+
+        private Waiter(long after) {
+            this.after = after;
+        }
+    }
+}
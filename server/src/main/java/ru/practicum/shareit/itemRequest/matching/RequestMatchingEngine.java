@@ -0,0 +1,212 @@
+package ru.practicum.shareit.itemRequest.matching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.search.ItemCreatedEvent;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Индекс запросов по словам описания для подбора новых предметов. В индексе не больше
+ * {@code shareit.matching.max-requests} запросов: при переполнении вытесняются самые старые, так как
+ * на давние запросы ответ уже маловероятен. Запросы удаленного пользователя убираются из индекса вместе с ним.
+ */
+@Component
+@Slf4j
+public class RequestMatchingEngine {
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final int STEM_LENGTH = 4;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Stream.of(
+                    "нужен", "нужна", "нужно", "нужны", "ищу", "хочу", "для", "кто", "есть", "или", "чтобы", "который",
+                    "которая", "которые", "можно", "need", "needs", "want", "looking", "for", "the", "and", "with",
+                    "anyone", "some", "that")
+            .map(RequestMatchingEngine::stem)
+            .collect(Collectors.toSet());
+
+    private final ItemRequestRepository repository;
+    private final RequestMatchNotifier notifier;
+    private final double minScore;
+    private final int maxRequests;
+    private final ConcurrentNavigableMap<Long, IndexedRequest> requests = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private int indexed;
+
+    public RequestMatchingEngine(ItemRequestRepository repository,
+                                 RequestMatchNotifier notifier,
+                                 @Value("${shareit.matching.min-score:0.5}") double minScore,
+                                 @Value("${shareit.matching.max-requests:100000}") int maxRequests) {
+        this.repository = repository;
+        this.notifier = notifier;
+        this.minScore = minScore;
+        this.maxRequests = maxRequests;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0;
+        List<ItemRequest> batch;
+        do {
+            batch = repository.findAllByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ItemRequest itemRequest : batch) {
+                put(itemRequest.getId(), itemRequest.getRequester().getId(), itemRequest.getDescription());
+                lastId = itemRequest.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Индекс запросов для подбора предметов построен, запросов в индексе: {}", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemRequestCreated(ItemRequestCreatedEvent event) {
+        put(event.getRequestId(), event.getRequesterId(), event.getDescription());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        event.getRequestIds().forEach(this::remove);
+        requests.values().stream()
+                .filter(request -> request.requesterId.equals(event.getUserId()))
+                .map(request -> request.id)
+                .collect(Collectors.toList())
+                .forEach(this::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemCreated(ItemCreatedEvent event) {
+        ItemDto item = event.getItem();
+        for (IndexedRequest request : match(item, event.getOwnerId())) {
+            notifier.publish(request.requesterId, request.id, ItemMapper.toItemShortDto(item));
+        }
+    }
+
+    List<Long> matchRequestIds(ItemDto item, Long ownerId) {
+        return match(item, ownerId).stream()
+                .map(request -> request.id)
+                .collect(Collectors.toList());
+    }
+
+    public synchronized int size() {
+        return indexed;
+    }
+
+    private List<IndexedRequest> match(ItemDto item, Long ownerId) {
+        Map<Long, IndexedRequest> matches = new LinkedHashMap<>();
+        if (item.getRequestId() != null) {
+            IndexedRequest request = requests.get(item.getRequestId());
+            if (request != null) {
+                matches.put(request.id, request);
+            }
+        }
+        if (Boolean.TRUE.equals(item.getAvailable())) {
+            Map<Long, Integer> shared = new HashMap<>();
+            Set<String> tokens = tokenize(item.getName());
+            tokens.addAll(tokenize(item.getDescription()));
+            for (String token : tokens) {
+                for (Long requestId : postings.getOrDefault(token, Set.of())) {
+                    shared.merge(requestId, 1, Integer::sum);
+                }
+            }
+            shared.forEach((requestId, count) -> {
+                IndexedRequest request = requests.get(requestId);
+                if (request != null && (double) count / request.tokens.size() >= minScore) {
+                    matches.putIfAbsent(requestId, request);
+                }
+            });
+        }
+        matches.values().removeIf(request -> request.requesterId.equals(ownerId));
+        return new ArrayList<>(matches.values());
+    }
+
+    private synchronized void put(Long requestId, Long requesterId, String description) {
+        IndexedRequest request = new IndexedRequest(requestId, requesterId, tokenize(description));
+        IndexedRequest previous = requests.put(requestId, request);
+        if (previous == null) {
+            indexed++;
+        } else {
+            removePostings(previous);
+        }
+        for (String token : request.tokens) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(requestId);
+        }
+        while (indexed > maxRequests) {
+            remove(requests.firstKey());
+        }
+    }
+
+    private synchronized void remove(Long requestId) {
+        IndexedRequest request = requests.remove(requestId);
+        if (request != null) {
+            indexed--;
+            removePostings(request);
+        }
+    }
+
+    private void removePostings(IndexedRequest request) {
+        for (String token : request.tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(request.id);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : TOKEN_SEPARATOR.split(text)) {
+            if (word.length() >= MIN_TOKEN_LENGTH) {
+                String token = stem(word);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static String stem(String word) {
+        String folded = word.toLowerCase(Locale.ROOT).replace('ё', 'е');
+        return folded.length() > STEM_LENGTH ? folded.substring(0, STEM_LENGTH) : folded;
+    }
+
+    private static class IndexedRequest {
+        private final Long id;
+        private final Long requesterId;
+        private final Set<String> tokens;
+
+        private IndexedRequest(Long id, Long requesterId, Set<String> tokens) {
+            this.id = id;
+            this.requesterId = requesterId;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -1,16 +1,39 @@
 package ru.practicum.shareit.itemRequest.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select ir from ItemRequest as ir where ir.requester.id = ?1 order by ir.created asc")
     List<ItemRequest> findAllByRequesterIdOrderByCreatedAsc(Long userId);
 
-    @Query("select ir from ItemRequest as ir where ir.requester.id not in ?1")
-    Page<ItemRequest> findAll(Long userId, Pageable pageable);
+    @Query("select ir.id from ItemRequest as ir where ir.requester.id = ?1")
+    List<Long> findIdsByRequesterId(Long userId);
+
+    @Query("select ir.id from ItemRequest as ir where ir.id in ?1")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select ir from ItemRequest as ir where ir.requester.id <> ?1")
+    List<ItemRequest> findAll(Long userId, Pageable pageable);
+
+    @Query("select ir from ItemRequest as ir where ir.requester.id <> ?1 " +
+            "and (ir.created < ?2 or ir.created = ?2 and ir.id < ?3) " +
+            "order by ir.created desc, ir.id desc")
+    List<ItemRequest> findAllAfter(Long userId, LocalDateTime created, Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "requester")
+    List<ItemRequest> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
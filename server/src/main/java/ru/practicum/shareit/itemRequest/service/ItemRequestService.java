@@ -1,9 +1,12 @@
 package ru.practicum.shareit.itemRequest.service;
 
 import ru.practicum.shareit.itemRequest.dto.ItemRequestDto;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestPageDto;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.itemRequest.dto.RequestMatchDto;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface ItemRequestService {
     ItemRequestResponseDto create(Long userId, ItemRequestDto itemRequestDto);
@@ -12,5 +15,9 @@ public interface ItemRequestService {
 
     List<ItemRequestResponseDto> getAll(int from, int size, Long userId);
 
+    ItemRequestPageDto getPage(String cursor, int size, Long userId);
+
     ItemRequestResponseDto getById(Long requestId, Long userId);
+
+    CompletableFuture<List<RequestMatchDto>> getMatches(long after, Long userId);
 }
@@ -1,95 +1,151 @@
 package ru.practicum.shareit.itemRequest.service;
 
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestCursor;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestDto;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestPageDto;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.itemRequest.dto.RequestMatchDto;
 import ru.practicum.shareit.itemRequest.mapper.ItemRequestMapper;
+import ru.practicum.shareit.itemRequest.matching.ItemRequestCreatedEvent;
+import ru.practicum.shareit.itemRequest.matching.RequestMatchNotifier;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.itemRequest.mapper.ItemRequestMapper.mapToItemRequest;
 import static ru.practicum.shareit.itemRequest.mapper.ItemRequestMapper.mapToItemRequestResponseDto;
+import static ru.practicum.shareit.user.mapper.UserMapper.toUser;
 
 @Service
 @AllArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRepository itemRepository;
+    private final RequestMatchNotifier requestMatchNotifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private static final Sort FEED_ORDER = Sort.by("created").descending().and(Sort.by("id").descending());
 
     @Transactional
     @Override
     public ItemRequestResponseDto create(Long userId, ItemRequestDto itemRequestDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DataNotFoundException(String.format("Пользователь c id %d не найден", userId)));
+        User user = toUser(userService.getById(userId));
 
         ItemRequest itemRequest = mapToItemRequest(itemRequestDto, user);
         itemRequestRepository.save(itemRequest);
+        eventPublisher.publishEvent(new ItemRequestCreatedEvent(itemRequest.getId(), user.getId(),
+                itemRequest.getDescription()));
 
         return mapToItemRequestResponseDto(itemRequest);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<ItemRequestResponseDto> getAllByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DataNotFoundException(String.format("Пользователь c id %d не найден", userId)));
-        List<ItemRequestResponseDto> itemsRequest = itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(user.getId())
+        userService.checkExists(userId);
+        List<ItemRequestResponseDto> itemsRequest = itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(userId)
                 .stream()
                 .map(ItemRequestMapper::mapToItemRequestResponseDto)
                 .collect(Collectors.toList());
-        itemsRequest.forEach(this::setItems);
+        setItems(itemsRequest);
 
         return itemsRequest;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<ItemRequestResponseDto> getAll(int from, int size, Long userId) {
         if (from < 0 || size <= 0) {
             throw new BadRequestException("Не правильно переданы параметры поиска, индекс первого элемента не может" +
                     " быть меньше нуля а размер страницы должен быть больше нуля");
         }
-        final PageRequest pageRequest = PageRequest.of(from / size, size, Sort.by("created").descending());
+        final PageRequest pageRequest = PageRequest.of(from / size, size, FEED_ORDER);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DataNotFoundException(String.format("Пользователь c id %d не найден", userId)));
-        List<ItemRequestResponseDto> itemsRequest = itemRequestRepository.findAll(user.getId(), pageRequest)
+        userService.checkExists(userId);
+        List<ItemRequestResponseDto> itemsRequest = itemRequestRepository.findAll(userId, pageRequest)
                 .stream()
                 .map(ItemRequestMapper::mapToItemRequestResponseDto)
                 .collect(Collectors.toList());
-        itemsRequest.forEach(this::setItems);
+        setItems(itemsRequest);
 
         return itemsRequest;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public ItemRequestPageDto getPage(String cursor, int size, Long userId) {
+        if (size <= 0) {
+            throw new BadRequestException("Не правильно переданы параметры поиска, размер страницы должен быть " +
+                    "больше нуля");
+        }
+        userService.checkExists(userId);
+        ItemRequestCursor after = cursor == null || cursor.isBlank() ? null : ItemRequestCursor.decode(cursor);
+        List<ItemRequest> itemRequests = after == null
+                ? itemRequestRepository.findAll(userId, PageRequest.of(0, size + 1, FEED_ORDER))
+                : itemRequestRepository.findAllAfter(userId, after.getCreated(), after.getId(),
+                        PageRequest.of(0, size + 1));
+        String nextCursor = null;
+        if (itemRequests.size() > size) {
+            itemRequests = itemRequests.subList(0, size);
+            nextCursor = ItemRequestCursor.of(itemRequests.get(size - 1)).encode();
+        }
+        List<ItemRequestResponseDto> page = itemRequests.stream()
+                .map(ItemRequestMapper::mapToItemRequestResponseDto)
+                .collect(Collectors.toList());
+        setItems(page);
+
+        return ItemRequestPageDto.builder()
+                .requests(page)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public ItemRequestResponseDto getById(Long requestId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DataNotFoundException(String.format("Пользователь c id %d не найден", userId)));
+        userService.checkExists(userId);
         ItemRequest itemRequest = itemRequestRepository.findById(requestId)
                 .orElseThrow(() -> new DataNotFoundException(String.format("Запрос с id %d не найден", requestId)));
         ItemRequestResponseDto itemRequestResponseDto = mapToItemRequestResponseDto(itemRequest);
-        setItems(itemRequestResponseDto);
+        setItems(List.of(itemRequestResponseDto));
 
         return itemRequestResponseDto;
     }
 
-    private void setItems(ItemRequestResponseDto itemRequestResponseDto) {
-        itemRequestResponseDto.setItems(itemRepository.findAllByRequestId(itemRequestResponseDto.getId())
+    @Override
+    public CompletableFuture<List<RequestMatchDto>> getMatches(long after, Long userId) {
+        userService.checkExists(userId);
+        return requestMatchNotifier.poll(userId, after);
+    }
+
+    private void setItems(List<ItemRequestResponseDto> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return;
+        }
+        List<Long> requestIds = itemRequests.stream().map(ItemRequestResponseDto::getId).collect(Collectors.toList());
+        Map<Long, List<ItemShortDto>> items = itemRepository.findAllByRequestIdIn(requestIds)
                 .stream()
                 .map(ItemMapper::toItemShortDto)
-                .collect(Collectors.toList()));
+                .collect(Collectors.groupingBy(ItemShortDto::getRequestId));
+        itemRequests.forEach(itemRequest ->
+                itemRequest.setItems(items.getOrDefault(itemRequest.getId(), new ArrayList<>())));
     }
 }
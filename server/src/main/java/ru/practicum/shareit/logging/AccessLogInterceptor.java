@@ -0,0 +1,56 @@
+package ru.practicum.shareit.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Пишет по одной строке журнала доступа на запрос: маршрут, статус, пользователь, id из пути, размер ответа и
+ * время обработки. Строка собирается из готовых значений, без сериализации тел запроса и ответа;
+ * выводит её асинхронный аппендер {@code ACCESS} из {@code logback-spring.xml}.
+ */
+@Slf4j(topic = AccessLogInterceptor.LOGGER)
+@Component
+@ConditionalOnProperty(name = "shareit.logging.access.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogInterceptor implements HandlerInterceptor {
+    public static final String LOGGER = "ru.practicum.shareit.access";
+    static final String SIZE_ATTRIBUTE = AccessLogInterceptor.class.getName() + ".size";
+    private static final String START_ATTRIBUTE = AccessLogInterceptor.class.getName() + ".start";
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                @Nullable Exception ex) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        long latencyMicros = start == null ? -1 : (System.nanoTime() - start) / 1_000;
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object ids = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        Object size = request.getAttribute(SIZE_ATTRIBUTE);
+        log.info("route=\"{} {}\" status={} user={} ids={} size={} latencyMs={}", request.getMethod(),
+                route != null ? route : request.getRequestURI(), response.getStatus(),
+                orDash(request.getHeader(USER_HEADER)), ids instanceof Map && !((Map<?, ?>) ids).isEmpty() ? ids : "-",
+                orDash(size), latencyMicros / 1000.0);
+    }
+
+    private static Object orDash(@Nullable Object value) {
+        return value != null ? value : "-";
+    }
+}
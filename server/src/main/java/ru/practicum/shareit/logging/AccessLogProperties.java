@@ -0,0 +1,14 @@
+package ru.practicum.shareit.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.logging.access")
+public class AccessLogProperties {
+    private boolean enabled = true;
+    private double payloadSampleRate = 0.0;
+    private int maxPayloadLength = 4096;
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.pagination;
+
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Кодирует ключ последней строки страницы в непрозрачный курсор: значения ключа через {@value #SEPARATOR}
+ * в URL-безопасном Base64. Значения не должны содержать разделитель.
+ */
+public final class KeysetCursorCodec {
+    private static final String SEPARATOR = "_";
+
+    private KeysetCursorCodec() {
+    }
+
+    public static String encode(Object... keys) {
+        String value = Stream.of(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Разбирает курсор из {@code keyCount} значений; ошибка разбора в {@code parser} означает некорректный курсор.
+     */
+    public static <T> T decode(String token, int keyCount, Function<String[], T> parser) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] keys = value.split(SEPARATOR, -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException(value);
+            }
+            return parser.apply(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(String.format("Некорректный курсор %s", token));
+        }
+    }
+}
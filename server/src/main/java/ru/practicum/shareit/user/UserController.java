@@ -1,12 +1,24 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserPageDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -14,44 +26,95 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class UserController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public List<UserDto> getAll() {
-        log.info("Пришел /GET запрос на получение всех пользователей");
-        List<UserDto> users = userService.getAll();
-        log.info("Ответ отправлен {}", users);
-        return users;
+    public ResponseEntity<StreamingResponseBody> getAll(@RequestHeader(value = HttpHeaders.ACCEPT,
+            required = false) String accept) {
+        log.debug("Пришел /GET запрос на получение всех пользователей в формате {}", accept);
+        if (accept != null && accept.contains(APPLICATION_NDJSON_VALUE)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                    .body(out -> {
+                        if (stream(writer().withRootValueSeparator("\n").writeValues(out)) > 0) {
+                            out.write('\n');
+                        }
+                    });
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> stream(writer().writeValuesAsArray(out)));
+    }
+
+    @GetMapping(params = {"size", "!cursor"})
+    public ResponseEntity<List<UserDto>> getPage(@RequestParam(defaultValue = "0") int from,
+                                                 @RequestParam int size) {
+        log.debug("Пришел /GET запрос на получение страницы пользователей from {}, size {}", from, size);
+        List<UserDto> users = userService.getAll(from, size);
+        return ResponseEntity.ok(users);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<UserDto>> getPageByCursor(@RequestParam String cursor,
+                                                         @RequestParam(defaultValue = "10") int size) {
+        log.debug("Пришел /GET запрос на получение страницы пользователей с курсором {}, size {}", cursor, size);
+        UserPageDto page = userService.getPage(cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getUsers());
     }
 
     @GetMapping("/{id}")
     public UserDto getById(@PathVariable Long id) {
-        log.info("Пришел /GET запрос на получение пользователя по id {}", id);
+        log.debug("Пришел /GET запрос на получение пользователя по id {}", id);
         UserDto user = userService.getById(id);
-        log.info("Ответ отправлен {}", user);
         return user;
     }
 
     @PostMapping
     public UserDto create(@RequestBody User user) {
-        log.info("Пришел /POST запрос на создание пользователя {}", user);
+        log.debug("Пришел /POST запрос на создание пользователя {}", user);
         UserDto createdUser = userService.create(user);
-        log.info("Ответ отправлен {}", createdUser);
         return createdUser;
     }
 
     @PatchMapping("/{id}")
     public UserDto update(@RequestBody User user, @PathVariable Long id) {
-        log.info("Пришел /PATCH запрос на изменение данных пользователя с id {}", id);
+        log.debug("Пришел /PATCH запрос на изменение данных пользователя с id {}", id);
         UserDto updatedUser = userService.update(user, id);
-        log.info("Ответ отправлен {}", updatedUser);
         return updatedUser;
     }
 
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
-        log.info("Пришел /DELETE запрос на удаление пользователя с id {}", id);
+        log.debug("Пришел /DELETE запрос на удаление пользователя с id {}", id);
         userService.delete(id);
-        log.info("Пользователь удален ");
+    }
+
+    private ObjectWriter writer() {
+        return objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private long stream(SequenceWriter writer) throws IOException {
+        try (SequenceWriter users = writer) {
+            long count = userService.streamAll(user -> {
+                try {
+                    users.write(user);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.debug("Ответ отправлен потоком, пользователей в ответе: {}", count);
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class UserCache implements MeterBinder {
+    private static final String CACHE_NAME = "users";
+
+    private final Cache<Long, UserDto> users;
+
+    public UserCache(@Value("${shareit.cache.users.maximum-size:10000}") long maximumSize,
+                     @Value("${shareit.cache.users.expire-after-write:5m}") Duration expireAfterWrite) {
+        users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public UserDto get(Long userId, Function<Long, UserDto> loader) {
+        return users.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        users.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Сброс кэша пользователя с id {}", event.getUserId());
+        evict(event.getUserId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, CACHE_NAME);
+    }
+}
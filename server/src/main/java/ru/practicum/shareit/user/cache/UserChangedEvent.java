@@ -0,0 +1,12 @@
+package ru.practicum.shareit.user.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.user.cache;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Пользователь удален. Вместе с ним база каскадно удаляет его вещи и запросы, а также чужие вещи, созданные
+ * в ответ на эти запросы; Hibernate об этом не знает, поэтому событие перечисляет id удаленных строк.
+ */
+@Getter
+@ToString(callSuper = true)
+public class UserDeletedEvent extends UserChangedEvent {
+    private final Set<Long> itemIds;
+    private final Set<Long> requestIds;
+
+    public UserDeletedEvent(Long userId, Collection<Long> itemIds, Collection<Long> requestIds) {
+        super(userId);
+        this.itemIds = Set.copyOf(itemIds);
+        this.requestIds = Set.copyOf(requestIds);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.user.cache;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * У пользователя сменилось имя. Карточки предметов в кэше хранят имя автора в комментариях, поэтому событие
+ * перечисляет предметы, которые пользователь комментировал.
+ */
+@Getter
+@ToString(callSuper = true)
+public class UserRenamedEvent extends UserChangedEvent {
+    private final Set<Long> commentedItemIds;
+
+    public UserRenamedEvent(Long userId, Collection<Long> commentedItemIds) {
+        super(userId);
+        this.commentedItemIds = Set.copyOf(commentedItemIds);
+    }
+}
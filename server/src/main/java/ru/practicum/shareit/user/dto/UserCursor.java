@@ -0,0 +1,24 @@
+package ru.practicum.shareit.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.pagination.KeysetCursorCodec;
+import ru.practicum.shareit.user.model.User;
+
+@Getter
+@AllArgsConstructor
+public class UserCursor {
+    private final Long id;
+
+    public static UserCursor of(User user) {
+        return new UserCursor(user.getId());
+    }
+
+    public String encode() {
+        return KeysetCursorCodec.encode(id);
+    }
+
+    public static UserCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 1, keys -> new UserCursor(Long.parseLong(keys[0])));
+    }
+}
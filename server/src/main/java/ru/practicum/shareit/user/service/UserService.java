@@ -2,14 +2,22 @@ package ru.practicum.shareit.user.service;
 
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserPageDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
-    List<UserDto> getAll();
+    List<UserDto> getAll(int from, int size);
+
+    UserPageDto getPage(String cursor, int size);
+
+    long streamAll(Consumer<UserDto> action);
 
     UserDto getById(Long id);
 
+    void checkExists(Long id);
+
     UserDto create(User user);
 
     UserDto update(User user, Long id);
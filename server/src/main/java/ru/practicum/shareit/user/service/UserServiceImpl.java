@@ -1,16 +1,38 @@
 package ru.practicum.shareit.user.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.cache.UserCache;
+import ru.practicum.shareit.user.cache.UserChangedEvent;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+import ru.practicum.shareit.user.cache.UserRenamedEvent;
+import ru.practicum.shareit.user.dto.UserCursor;
+import ru.practicum.shareit.user.dto.UserPageDto;
+import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.repository.UserRepository;
 
-import java.util.ArrayList;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ru.practicum.shareit.user.mapper.UserMapper.toUserDto;
 
@@ -18,26 +40,86 @@ import static ru.practicum.shareit.user.mapper.UserMapper.toUserDto;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    private static final Sort ID_ORDER = Sort.by("id");
+
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, ItemRepository itemRepository,
+                           CommentRepository commentRepository, ItemRequestRepository itemRequestRepository,
+                           UserCache userCache, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.itemRepository = itemRepository;
+        this.commentRepository = commentRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.userCache = userCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserDto> getAll(int from, int size) {
+        if (from < 0 || size <= 0) {
+            throw new BadRequestException("Не правильно переданы параметры поиска, индекс первого элемента не может" +
+                    " быть меньше нуля а размер страницы должен быть больше нуля");
+        }
+        return userRepository.findAll(PageRequest.of(from / size, size, ID_ORDER))
+                .stream()
+                .map(UserMapper::toUserDto)
+                .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<UserDto> getAll() {
-        List<UserDto> users = new ArrayList<>();
-        for (User user : userRepository.findAll()) {
-            users.add(toUserDto(user));
+    public UserPageDto getPage(String cursor, int size) {
+        if (size <= 0) {
+            throw new BadRequestException("Не правильно переданы параметры поиска, размер страницы должен быть " +
+                    "больше нуля");
         }
-        return users;
+        long afterId = cursor == null || cursor.isBlank() ? 0 : UserCursor.decode(cursor).getId();
+        List<User> users = userRepository.findAllByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+        String nextCursor = null;
+        if (users.size() > size) {
+            users = users.subList(0, size);
+            nextCursor = UserCursor.of(users.get(size - 1)).encode();
+        }
+        return UserPageDto.builder()
+                .users(users.stream().map(UserMapper::toUserDto).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long streamAll(Consumer<UserDto> action) {
+        long count = 0;
+        try (Stream<User> users = userRepository.streamAll()) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                action.accept(toUserDto(user));
+                entityManager.detach(user);
+                count++;
+            }
+        }
+        return count;
     }
 
     @Override
     public UserDto getById(Long id) {
-        User user = userRepository.findById(id).orElseThrow(
-                () -> new DataNotFoundException(String.format("Пользователь с id %d не найден", id)));
-        return toUserDto(user);
+        return userCache.get(id, this::load).toBuilder().build();
+    }
+
+    @Override
+    public void checkExists(Long id) {
+        userCache.get(id, this::load);
     }
 
     @Transactional
@@ -52,8 +134,14 @@ public class UserServiceImpl implements UserService {
     public UserDto update(User user, Long id) {
         User updatedUser = userRepository.findById(id).orElseThrow(
                 () -> new DataNotFoundException(String.format("Пользователь с id %d не найден", id)));
+        String name = updatedUser.getName();
         Optional.ofNullable(user.getEmail()).ifPresent(updatedUser::setEmail);
         Optional.ofNullable(user.getName()).ifPresent(updatedUser::setName);
+        if (Objects.equals(name, updatedUser.getName())) {
+            eventPublisher.publishEvent(new UserChangedEvent(id));
+        } else {
+            eventPublisher.publishEvent(new UserRenamedEvent(id, commentRepository.findItemIdsByAuthorId(id)));
+        }
 
         return toUserDto(userRepository.save(updatedUser));
     }
@@ -61,7 +149,19 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public void delete(Long id) {
-        getById(id);
+        load(id);
+        List<Long> requestIds = itemRequestRepository.findIdsByRequesterId(id);
+        Set<Long> itemIds = new HashSet<>(itemRepository.findIdsByOwnerId(id));
+        if (!requestIds.isEmpty()) {
+            itemIds.addAll(itemRepository.findIdsByRequestIdIn(requestIds));
+        }
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserDeletedEvent(id, itemIds, requestIds));
+    }
+
+    private UserDto load(Long id) {
+        User user = userRepository.findById(id).orElseThrow(
+                () -> new DataNotFoundException(String.format("Пользователь с id %d не найден", id)));
+        return toUserDto(user);
     }
 }
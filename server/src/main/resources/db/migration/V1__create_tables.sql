@@ -1,9 +1,3 @@
-DROP TABLE IF EXISTS USERS CASCADE;
-DROP TABLE IF EXISTS ITEM_REQUESTS CASCADE;
-DROP TABLE IF EXISTS ITEMS CASCADE;
-DROP TABLE IF EXISTS BOOKINGS CASCADE;
-DROP TABLE IF EXISTS COMMENTS CASCADE;
-
 CREATE TABLE IF NOT EXISTS USERS (
     ID BIGINT generated BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
     NAME VARCHAR(255) NOT NULL,
@@ -18,7 +12,6 @@ CREATE TABLE IF NOT EXISTS ITEM_REQUESTS (
    CREATED TIMESTAMP WITHOUT TIME ZONE
 );
 
-
 CREATE TABLE IF NOT EXISTS ITEMS (
     ID BIGINT generated BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
     NAME VARCHAR(255) NOT NULL,
@@ -44,6 +37,3 @@ CREATE TABLE IF NOT EXISTS COMMENTS (
     AUTHOR_ID BIGINT REFERENCES USERS (ID) ON DELETE CASCADE NOT NULL,
     CREATED TIMESTAMP WITHOUT TIME ZONE
 );
-
-
-
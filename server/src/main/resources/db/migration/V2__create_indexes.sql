@@ -0,0 +1,13 @@
+CREATE INDEX IF NOT EXISTS IDX_ITEM_REQUESTS_CREATED ON ITEM_REQUESTS (CREATED DESC, ID DESC);
+CREATE INDEX IF NOT EXISTS IDX_ITEM_REQUESTS_REQUESTER_CREATED ON ITEM_REQUESTS (REQUESTER_ID, CREATED);
+
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_OWNER ON ITEMS (OWNER_ID, ID);
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_REQUEST ON ITEMS (REQUEST_ID);
+
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ITEM_PERIOD ON BOOKINGS (ITEM_ID, START_DATE, END_DATE);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ITEM_END ON BOOKINGS (ITEM_ID, END_DATE);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_BOOKER_START ON BOOKINGS (BOOKER_ID, START_DATE DESC, ID DESC);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_BOOKER_ITEM_STATUS ON BOOKINGS (BOOKER_ID, ITEM_ID, STATUS, END_DATE);
+
+CREATE INDEX IF NOT EXISTS IDX_COMMENTS_ITEM ON COMMENTS (ITEM_ID);
+CREATE INDEX IF NOT EXISTS IDX_COMMENTS_AUTHOR ON COMMENTS (AUTHOR_ID);
@@ -0,0 +1,62 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.UserController;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = UserController.class, properties = "shareit.logging.access.payload-sample-rate=1")
+@ExtendWith(OutputCaptureExtension.class)
+class AccessLogTest {
+    @MockBean
+    private UserService userService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void writesSummaryAndSampledPayload(CapturedOutput output) throws Exception {
+        UserDto user = UserDto.builder().id(7L).name("name").email("access@email.com").build();
+        Mockito.when(userService.create(any(User.class))).thenReturn(user);
+        Mockito.when(userService.getAll(anyInt(), anyInt())).thenReturn(List.of(user, user));
+
+        mockMvc.perform(post("/users")
+                        .content(objectMapper.writeValueAsString(user))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/users/?from=0&size=2").header("X-Sharer-User-Id", 7))
+                .andExpect(status().isOk());
+
+        awaitOutput(output, "route=\"POST /users\" status=200 user=- ids=- size=1 latencyMs=");
+        awaitOutput(output, "route=\"GET /users\" status=200 user=7 ids=- size=2 latencyMs=");
+        awaitOutput(output, "POST /users {\"id\":7,\"name\":\"name\",\"email\":\"access@email.com\"}");
+    }
+
+    private static void awaitOutput(CapturedOutput output, String expected) throws InterruptedException {
+        for (int i = 0; i < 50 && !output.getOut().contains(expected); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(output.getOut().contains(expected), "в журнале нет строки: " + expected);
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMetrics
+@DirtiesContext
+class MetricsEndpointTest {
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void prometheusExposesControllerAndRepositoryTimings() {
+        UserDto user = UserDto.builder().name("name").email("metrics@email.com").build();
+        UserDto created = rest.postForObject("/users", user, UserDto.class);
+        rest.getForObject("/users/" + created.getId(), UserDto.class);
+
+        ResponseEntity<String> response = rest.getForEntity("/actuator/prometheus", String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String scrape = response.getBody();
+
+        assertTrue(scrape.contains("http_server_requests_seconds{application=\"shareit-server\",exception=\"None\"," +
+                "method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/users/{id}\",quantile=\"0.99\",}"),
+                "нет перцентиля p99 для GET /users/{id}");
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{application=\"shareit-server\"," +
+                "exception=\"None\",method=\"POST\",outcome=\"SUCCESS\",status=\"200\",uri=\"/users\",le=\"0.1\",}"),
+                "нет SLO-корзины 100ms для POST /users");
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_count{application=\"shareit-server\"," +
+                "exception=\"None\",method=\"save\",repository=\"UserRepository\",state=\"SUCCESS\",}"),
+                "нет таймера UserRepository.save");
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+public class QueryContract {
+    private final String method;
+    private final String name;
+    private final Runnable query;
+    private int statements = 1;
+    private final Map<String, String> seeks = new HashMap<>();
+    private final Set<String> indexScans = new HashSet<>();
+    private final Set<String> fullScans = new HashSet<>();
+
+    private QueryContract(String method, String name, Runnable query) {
+        this.method = method;
+        this.name = name;
+        this.query = query;
+    }
+
+    public static QueryContract of(String method, Runnable query) {
+        return new QueryContract(method, method, query);
+    }
+
+    public static QueryContract of(String method, String variant, Runnable query) {
+        return new QueryContract(method, method + "(" + variant + ")", query);
+    }
+
+    public QueryContract statements(int statements) {
+        this.statements = statements;
+        return this;
+    }
+
+    public QueryContract seek(String table, String column) {
+        seeks.put(table, column);
+        return this;
+    }
+
+    public QueryContract indexScan(String table) {
+        indexScans.add(table);
+        return this;
+    }
+
+    public QueryContract fullScan(String table) {
+        fullScans.add(table);
+        return this;
+    }
+}
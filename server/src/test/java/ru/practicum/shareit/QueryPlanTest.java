@@ -0,0 +1,147 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.Status;
+
+import javax.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Tag("query-plan")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=ru.practicum.shareit.SqlRecorder")
+public abstract class QueryPlanTest {
+    protected static final int USERS_COUNT = 500;
+    protected static final int REQUESTS_COUNT = 2000;
+    protected static final int ITEMS_COUNT = 5000;
+    protected static final int BOOKINGS_COUNT = 50000;
+    protected static final int COMMENTS_COUNT = 10000;
+
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "\"PUBLIC\"\\.\"(\\w+)\"(?: \"\\w+\")?\\s*/\\* PUBLIC\\.([\\w.]+)(?:: (.*?))?\\s*\\*/", Pattern.DOTALL);
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    protected LocalDateTime now;
+
+    @BeforeEach
+    void seed() {
+        now = LocalDateTime.now();
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS_COUNT; i++) {
+            users.add(new Object[]{i, "user" + i, "user" + i + "@mail.com"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", users);
+        List<Object[]> requests = new ArrayList<>();
+        for (int i = 1; i <= REQUESTS_COUNT; i++) {
+            requests.add(new Object[]{i, "request" + i, i % USERS_COUNT + 1,
+                    Timestamp.valueOf(now.minusHours(REQUESTS_COUNT - i))});
+        }
+        jdbcTemplate.batchUpdate("insert into item_requests (id, description, requester_id, created) " +
+                "values (?, ?, ?, ?)", requests);
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 1; i <= ITEMS_COUNT; i++) {
+            items.add(new Object[]{i, "item" + i, "description" + i, i % 3 != 0, i % USERS_COUNT + 1,
+                    i % 4 == 0 ? i / 4 % REQUESTS_COUNT + 1 : null});
+        }
+        jdbcTemplate.batchUpdate("insert into items (id, name, description, is_available, owner_id, request_id) " +
+                "values (?, ?, ?, ?, ?, ?)", items);
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 1; i <= BOOKINGS_COUNT; i++) {
+            LocalDateTime start = now.minusHours(BOOKINGS_COUNT / 2 - i);
+            bookings.add(new Object[]{i, Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(12)),
+                    i % ITEMS_COUNT + 1, i % USERS_COUNT + 1, Status.values()[i % Status.values().length].name()});
+        }
+        jdbcTemplate.batchUpdate("insert into bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "values (?, ?, ?, ?, ?, ?)", bookings);
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 1; i <= COMMENTS_COUNT; i++) {
+            comments.add(new Object[]{i, "comment" + i, i % ITEMS_COUNT + 1, i % USERS_COUNT + 1,
+                    Timestamp.valueOf(now.minusHours(COMMENTS_COUNT - i))});
+        }
+        jdbcTemplate.batchUpdate("insert into comments (id, text, item_id, author_id, created) " +
+                "values (?, ?, ?, ?, ?)", comments);
+    }
+
+    protected void assertContracts(Class<?> repository, QueryContract... contracts) {
+        Set<String> covered = Arrays.stream(contracts)
+                .map(QueryContract::getMethod)
+                .collect(Collectors.toSet());
+        Set<String> uncovered = Arrays.stream(repository.getMethods())
+                .filter(method -> method.getDeclaringClass().getPackageName().startsWith("ru.practicum.shareit"))
+                .map(Method::getName)
+                .filter(name -> !covered.contains(name))
+                .collect(Collectors.toCollection(TreeSet::new));
+        Assertions.assertTrue(uncovered.isEmpty(), "Нет контракта для методов " + repository.getSimpleName() +
+                ": " + uncovered);
+
+        List<String> violations = new ArrayList<>();
+        for (QueryContract contract : contracts) {
+            String name = repository.getSimpleName() + "." + contract.getName();
+            entityManager.clear();
+            SqlRecorder.clear();
+            contract.getQuery().run();
+            List<String> statements = SqlRecorder.statements();
+            if (statements.size() != contract.getStatements()) {
+                violations.add(name + ": ожидалось запросов " + contract.getStatements() + ", выполнено " +
+                        statements.size() + "\n" + String.join("\n", statements));
+            }
+            Map<String, String> seeks = new HashMap<>(contract.getSeeks());
+            for (String sql : statements) {
+                String plan = explain(sql);
+                Matcher access = TABLE_ACCESS.matcher(plan);
+                while (access.find()) {
+                    String table = access.group(1);
+                    String condition = access.group(3);
+                    if (access.group(2).endsWith(".tableScan")) {
+                        if (!contract.getFullScans().contains(table)) {
+                            violations.add(name + ": полное сканирование таблицы " + table + "\n" + plan);
+                        }
+                    } else if (condition == null) {
+                        if (!contract.getIndexScans().contains(table) && !contract.getFullScans().contains(table)) {
+                            violations.add(name + ": полное сканирование индекса " + access.group(2) + "\n" + plan);
+                        }
+                    } else if (isSeek(condition, seeks.get(table))) {
+                        seeks.remove(table);
+                    }
+                }
+            }
+            seeks.forEach((table, column) -> violations.add(name + ": нет поиска по индексу " + table + "." +
+                    column + "\n" + String.join("\n", statements)));
+        }
+        Assertions.assertTrue(violations.isEmpty(), String.join("\n\n", violations));
+    }
+
+    private boolean isSeek(String condition, String column) {
+        return column != null && Pattern.compile("\\b" + column + " (=|<|>|IN\\()").matcher(condition).find();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("explain " + sql), resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+            return plan.toString();
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class SchemaMigrationTest extends QueryPlanTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsAreAppliedOnceAndKeepData() {
+        Assertions.assertEquals(0, flyway.migrate().migrationsExecuted);
+        Assertions.assertEquals(4, flyway.info().applied().length);
+        Assertions.assertEquals(BOOKINGS_COUNT, jdbcTemplate.queryForObject("select count(*) from bookings",
+                Integer.class));
+    }
+}
@@ -0,0 +1,127 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestDto;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
+import ru.practicum.shareit.itemRequest.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SecondLevelCacheTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private UserDto owner;
+    private UserDto requester;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userService.create(User.builder().name("owner").email("owner@cache.com").build());
+        requester = userService.create(User.builder().name("requester").email("requester@cache.com").build());
+    }
+
+    @Test
+    void itemIsReadFromSecondLevelCacheAndRefreshedOnUpdate() {
+        ItemDto item = itemService.create(ItemDto.builder().name("drill").description("cordless drill")
+                .available(true).build(), owner.getId());
+        itemRepository.findById(item.getId());
+
+        statistics.clear();
+        assertEquals("drill", itemRepository.findById(item.getId()).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("items").getHitCount());
+
+        itemService.update(ItemDto.builder().name("hammer drill").build(), item.getId(), owner.getId());
+        assertEquals("hammer drill", itemRepository.findById(item.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void requesterQueryIsServedFromQueryCacheUntilRequestsChange() {
+        itemRequestService.create(requester.getId(), ItemRequestDto.builder().description("need a drill").build());
+        itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(requester.getId());
+
+        statistics.clear();
+        assertEquals(1, itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(requester.getId()).size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        ItemRequestResponseDto second = itemRequestService.create(requester.getId(),
+                ItemRequestDto.builder().description("need a ladder").build());
+        assertEquals(second.getId(), itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(requester.getId())
+                .get(1).getId());
+    }
+
+    @Test
+    void rowsDeletedWithUserAreEvicted() {
+        UserDto answerer = userService.create(User.builder().name("answerer").email("answerer@cache.com").build());
+        ItemRequestResponseDto request = itemRequestService.create(requester.getId(),
+                ItemRequestDto.builder().description("need a drill").build());
+        ItemDto own = itemService.create(ItemDto.builder().name("saw").description("hand saw")
+                .available(true).build(), owner.getId());
+        ItemDto answer = itemService.create(ItemDto.builder().name("drill").description("cordless drill")
+                .available(true).requestId(request.getId()).build(), answerer.getId());
+        itemRepository.findById(own.getId());
+        itemRepository.findById(answer.getId());
+        itemRequestRepository.findById(request.getId());
+        assertEquals(1, itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(requester.getId()).size());
+        assertEquals(1, itemRepository.findAllByRequestIdIn(List.of(request.getId())).size());
+
+        userService.delete(owner.getId());
+        userService.delete(requester.getId());
+
+        assertTrue(itemRepository.findById(own.getId()).isEmpty());
+        assertTrue(itemRepository.findById(answer.getId()).isEmpty());
+        assertTrue(itemRequestRepository.findById(request.getId()).isEmpty());
+        assertTrue(itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(requester.getId()).isEmpty());
+        assertTrue(itemRepository.findAllByRequestIdIn(List.of(request.getId())).isEmpty());
+    }
+
+    @Test
+    void regionStatisticsArePublishedAsMetrics() {
+        ItemDto item = itemService.create(ItemDto.builder().name("saw").description("hand saw")
+                .available(true).build(), owner.getId());
+        itemRepository.findById(item.getId());
+        itemRepository.findById(item.getId());
+
+        assertNotNull(meterRegistry.find("cache.size").tags("cache", "items", "cacheManager", "hibernate")
+                .gauge());
+        assertTrue(meterRegistry.get("cache.size").tags("cache", "items").gauge().value() >= 1);
+        assertTrue(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", "items", "result", "hit").functionCounter().count() >= 1);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlRecorder implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return new ArrayList<>(STATEMENTS.get());
+    }
+}
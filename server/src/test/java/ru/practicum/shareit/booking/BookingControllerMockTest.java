@@ -10,6 +10,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Status;
@@ -137,4 +139,24 @@ public class BookingControllerMockTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(mapper.writeValueAsString(bookingDtoResponse)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void approveAllTest() throws Exception {
+        List<BookingDecisionDto> decisions = List.of(
+                BookingDecisionDto.builder().bookingId(1L).approved(true).build(),
+                BookingDecisionDto.builder().bookingId(2L).approved(false).build());
+        List<BookingDecisionResultDto> results = List.of(
+                BookingDecisionResultDto.builder().bookingId(1L).status(Status.APPROVED).build(),
+                BookingDecisionResultDto.builder().bookingId(2L).error("Бронирование не найдено").build());
+        when(bookingService.approveAll(Mockito.anyLong(), Mockito.eq(decisions)))
+                .thenReturn(results);
+        mvc.perform(patch("/bookings/approve")
+                        .content(mapper.writeValueAsString(decisions))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 2L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(mapper.writeValueAsString(results)));
+    }
+}
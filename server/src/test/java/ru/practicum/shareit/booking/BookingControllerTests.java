@@ -4,10 +4,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -16,8 +19,11 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
@@ -130,7 +136,7 @@ class BookingControllerTests {
         UserDto user1 = userController.create(UserMapper.toUser(userDto1));
         BookingResponseDto booking = bookingController.create(bookingRequestDto, user1.getId());
         bookingController.approve(1L, 1L, true);
-        assertThrows(BookingIsNotAvailableException.class, () -> bookingController.approve(1L, 1L, true));
+        assertThrows(ConflictException.class, () -> bookingController.approve(1L, 1L, true));
     }
 
     @Test
@@ -173,4 +179,38 @@ class BookingControllerTests {
         BookingResponseDto booking = bookingController.create(bookingRequestDto, user1.getId());
         assertThrows(DataNotFoundException.class, () -> bookingController.getById(1L, 10L));
     }
+
+    @Test
+    void getPageByBookerWithCursorTest() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        ItemDto item = itemController.create(user.getId(), itemDto);
+        UserDto user1 = userController.create(UserMapper.toUser(userDto1));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            bookingController.create(BookingRequestDto.builder()
+                    .start(start.plusDays(i * 2L))
+                    .end(start.plusDays(i * 2L + 1))
+                    .itemId(item.getId())
+                    .build(), user1.getId());
+        }
+
+        ResponseEntity<List<BookingResponseDto>> firstPage =
+                bookingController.getPageByBooker(user1.getId(), "ALL", "", 2);
+        String cursor = firstPage.getHeaders().getFirst(BookingController.NEXT_CURSOR_HEADER);
+        assertEquals(2, firstPage.getBody().size());
+        assertEquals(3L, firstPage.getBody().get(0).getId());
+        assertNotNull(cursor);
+
+        ResponseEntity<List<BookingResponseDto>> secondPage =
+                bookingController.getPageByOwner(user.getId(), "FUTURE", cursor, 2);
+        assertEquals(1, secondPage.getBody().size());
+        assertEquals(1L, secondPage.getBody().get(0).getId());
+        assertNull(secondPage.getHeaders().getFirst(BookingController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getPageWithWrongCursorTest() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        assertThrows(BadRequestException.class, () -> bookingController.getPageByBooker(user.getId(), "ALL", "wrong", 2));
+    }
 }
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.QueryContract;
+import ru.practicum.shareit.QueryPlanTest;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingSpecifications;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+class BookingRepositoryQueryPlanTest extends QueryPlanTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    void queriesMeetContracts() {
+        assertContracts(BookingRepository.class,
+                QueryContract.of("findById", () -> bookingRepository.findById(1L))
+                        .seek("BOOKINGS", "ID"),
+                QueryContract.of("findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc", () ->
+                        bookingRepository.findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc(1L, 2L, now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("findAllByItemIdAndEndBeforeOrderByStartAsc", () ->
+                        bookingRepository.findAllByItemIdAndEndBeforeOrderByStartAsc(1L, now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("findAllByItemIdAndStartAfterOrderByStartAsc", () ->
+                        bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(1L, now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("findLastBookingsByItemIdIn", () ->
+                        bookingRepository.findLastBookingsByItemIdIn(List.of(1L, 2L, 3L), now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("findNextBookingsByItemIdIn", () ->
+                        bookingRepository.findNextBookingsByItemIdIn(List.of(1L, 2L, 3L), now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore", () ->
+                        bookingRepository.findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(2L, 1L,
+                                Status.APPROVED, now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("existsByItemIdAndStatusInAndStartBeforeAndEndAfter", () ->
+                        bookingRepository.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(1L,
+                                EnumSet.of(Status.WAITING, Status.APPROVED), now.plusDays(1), now))
+                        .seek("BOOKINGS", "ITEM_ID"),
+                QueryContract.of("findAll", "byBooker", () ->
+                        bookingRepository.findAll(BookingSpecifications.byBooker(2L)
+                                .and(BookingSpecifications.byState("PAST", now)), 0, 10))
+                        .seek("BOOKINGS", "BOOKER_ID"),
+                QueryContract.of("findAll", "byItemOwner", () ->
+                        bookingRepository.findAll(BookingSpecifications.byItemOwner(2L)
+                                .and(BookingSpecifications.byState("FUTURE", now)), 0, 10))
+                        .seek("ITEMS", "OWNER_ID"),
+                QueryContract.of("decideWaiting", () ->
+                        bookingRepository.decideWaiting(1L, 2L, Status.APPROVED))
+                        .seek("BOOKINGS", "ID"),
+                QueryContract.of("findAllByIdIn", () ->
+                        bookingRepository.findAllByIdIn(List.of(1L, 2L, 3L)))
+                        .seek("BOOKINGS", "ID"),
+                QueryContract.of("decideAllWaiting", () ->
+                        bookingRepository.decideAllWaiting(Map.of(1L, Status.APPROVED, 2L, Status.REJECTED)))
+                        .seek("BOOKINGS", "ID"));
+    }
+}
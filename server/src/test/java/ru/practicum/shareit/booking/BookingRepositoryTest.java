@@ -4,10 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
@@ -17,7 +17,11 @@ import java.time.LocalDateTime;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static ru.practicum.shareit.booking.model.Status.APPROVED;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.byBooker;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.byItemOwner;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.byState;
 import static ru.practicum.shareit.booking.model.Status.WAITING;
 
 @DataJpaTest
@@ -78,12 +82,12 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findAllByBookerTest() {
+    void findAllByBookerSpecificationTest() {
         userRepository.save(user);
         itemRepository.save(item);
         userRepository.save(user2);
         bookingRepository.save(booking);
-        assertThat(bookingRepository.findAllByBooker(user2, Pageable.ofSize(10)).stream().count(), equalTo(1L));
+        assertThat((long) bookingRepository.findAll(byBooker(user2.getId()), 0, 10).size(), equalTo(1L));
     }
 
     @Test
@@ -99,44 +103,47 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findAllByBookerAndStartBeforeAndEndAfterTest() {
+    void findAllByBookerCurrentTest() {
         userRepository.save(user);
         itemRepository.save(item);
         userRepository.save(user2);
         bookingRepository.save(booking);
-        assertThat(bookingRepository.findAllByBookerAndStartBeforeAndEndAfter(user2,
-                LocalDateTime.of(2023, 2, 1, 10, 10), LocalDateTime.now(),
-                Pageable.ofSize(10)).stream().count(), equalTo(0L));
+        assertThat((long) bookingRepository.findAll(byBooker(user2.getId())
+                .and(byState("CURRENT", LocalDateTime.now())), 0, 10).size(), equalTo(0L));
     }
 
     @Test
-    void findAllByItemOwnerAndEndBeforeTest() {
+    void findAllByItemOwnerPastTest() {
         userRepository.save(user);
         itemRepository.save(item);
         userRepository.save(user2);
         bookingRepository.save(booking);
-        assertThat((long) bookingRepository.findAllByItemOwnerAndEndBefore(user,
-                LocalDateTime.of(2023, 4, 10, 10, 10),
-                Pageable.ofSize(10)).size(), equalTo(1L));
+        assertThat((long) bookingRepository.findAll(byItemOwner(user.getId())
+                .and(byState("PAST", LocalDateTime.of(2023, 4, 10, 10, 10))), 0, 10).size(), equalTo(1L));
     }
 
     @Test
-    void findAllByItemOwnerAndStartAfterTest() {
+    void findAllByItemOwnerFutureTest() {
         userRepository.save(user);
         itemRepository.save(item);
         userRepository.save(user2);
         bookingRepository.save(booking);
-        assertThat((long) bookingRepository.findAllByItemOwnerAndStartAfter(user,
-                LocalDateTime.now(), Pageable.ofSize(10)).size(), equalTo(0L));
+        assertThat((long) bookingRepository.findAll(byItemOwner(user.getId())
+                .and(byState("FUTURE", LocalDateTime.now())), 0, 10).size(), equalTo(0L));
     }
 
     @Test
-    void findAllByItemOwnerAndStatusEqualsTest() {
+    void findAllByItemOwnerWaitingTest() {
         userRepository.save(user);
         itemRepository.save(item);
         userRepository.save(user2);
         bookingRepository.save(booking);
-        assertThat((long) bookingRepository.findAllByItemOwnerAndStatusEquals(user, WAITING, Pageable.ofSize(10))
-                .size(), equalTo(1L));
+        assertThat((long) bookingRepository.findAll(byItemOwner(user.getId())
+                .and(byState("WAITING", LocalDateTime.now())), 0, 10).size(), equalTo(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllWithUnknownStateTest() {
+        assertThrows(BadRequestException.class, () -> byState("UNKNOWN", LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,236 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
+import ru.practicum.shareit.exceptions.ConflictException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingServiceConcurrencyTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @SpyBean
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    void concurrentOverlappingBookingsCreateOnlyOne() throws Exception {
+        UserDto owner = userService.create(new User(0, "owner", "owner@mail.com"));
+        ItemDto item = itemService.create(ItemDto.builder()
+                .name("name")
+                .description("description")
+                .available(true)
+                .build(), owner.getId());
+        List<UserDto> bookers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookers.add(userService.create(new User(0, "booker" + i, "booker" + i + "@mail.com")));
+        }
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            UserDto booker = bookers.get(i);
+            BookingRequestDto request = BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusHours(i))
+                    .end(start.plusDays(1).plusHours(i))
+                    .build();
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                try {
+                    bookingService.create(request, booker.getId());
+                    return true;
+                } catch (BookingIsNotAvailableException e) {
+                    return false;
+                }
+            }));
+        }
+        startLatch.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                created++;
+            }
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(1, created);
+        Assertions.assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    void concurrentApprovalsDecideBookingOnce() throws Exception {
+        UserDto owner = userService.create(new User(0, "owner", "owner@mail.com"));
+        UserDto booker = userService.create(new User(0, "booker", "booker@mail.com"));
+        ItemDto item = itemService.create(ItemDto.builder()
+                .name("name")
+                .description("description")
+                .available(true)
+                .build(), owner.getId());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int round = 0; round < 20; round++) {
+            BookingResponseDto booking = bookingService.create(BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusDays(round * 2L))
+                    .end(start.plusDays(round * 2L + 1))
+                    .build(), booker.getId());
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<Status>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                boolean approve = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    startLatch.await();
+                    try {
+                        return bookingService.approve(booking.getId(), owner.getId(), approve).getStatus();
+                    } catch (ConflictException e) {
+                        return null;
+                    }
+                }));
+            }
+            startLatch.countDown();
+            List<Status> decided = new ArrayList<>();
+            for (Future<Status> result : results) {
+                Status status = result.get(30, TimeUnit.SECONDS);
+                if (status != null) {
+                    decided.add(status);
+                }
+            }
+
+            Assertions.assertEquals(1, decided.size());
+            Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+            Assertions.assertEquals(decided.get(0), stored.getStatus());
+            Assertions.assertEquals(1L, stored.getVersion());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void approveAllDecidesWaitingBookingsAndReportsTheRest() {
+        UserDto owner = userService.create(new User(0, "owner", "owner@mail.com"));
+        UserDto stranger = userService.create(new User(0, "stranger", "stranger@mail.com"));
+        UserDto booker = userService.create(new User(0, "booker", "booker@mail.com"));
+        ItemDto item = itemService.create(ItemDto.builder()
+                .name("name")
+                .description("description")
+                .available(true)
+                .build(), owner.getId());
+        ItemDto foreignItem = itemService.create(ItemDto.builder()
+                .name("name")
+                .description("description")
+                .available(true)
+                .build(), stranger.getId());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(bookingService.create(BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusDays(i * 2L))
+                    .end(start.plusDays(i * 2L + 1))
+                    .build(), booker.getId()).getId());
+        }
+        Long foreignId = bookingService.create(BookingRequestDto.builder()
+                .itemId(foreignItem.getId())
+                .start(start)
+                .end(start.plusDays(1))
+                .build(), booker.getId()).getId();
+        bookingService.approve(ids.get(2), owner.getId(), true);
+
+        List<BookingDecisionResultDto> results = bookingService.approveAll(owner.getId(), List.of(
+                BookingDecisionDto.builder().bookingId(ids.get(0)).approved(true).build(),
+                BookingDecisionDto.builder().bookingId(ids.get(1)).approved(false).build(),
+                BookingDecisionDto.builder().bookingId(ids.get(2)).approved(false).build(),
+                BookingDecisionDto.builder().bookingId(foreignId).approved(true).build(),
+                BookingDecisionDto.builder().bookingId(Long.MAX_VALUE).approved(true).build()));
+
+        Assertions.assertEquals(5, results.size());
+        Assertions.assertEquals(Status.APPROVED, results.get(0).getStatus());
+        Assertions.assertEquals(Status.REJECTED, results.get(1).getStatus());
+        for (BookingDecisionResultDto result : results.subList(2, 5)) {
+            Assertions.assertNull(result.getStatus());
+            Assertions.assertNotNull(result.getError());
+        }
+        Assertions.assertEquals(Status.APPROVED, bookingRepository.findById(ids.get(0)).orElseThrow().getStatus());
+        Assertions.assertEquals(Status.REJECTED, bookingRepository.findById(ids.get(1)).orElseThrow().getStatus());
+        Assertions.assertEquals(Status.APPROVED, bookingRepository.findById(ids.get(2)).orElseThrow().getStatus());
+        Assertions.assertEquals(Status.WAITING, bookingRepository.findById(foreignId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void approveAllReportsBookingDecidedConcurrentlyWithTheSameStatus() throws Exception {
+        UserDto owner = userService.create(new User(0, "owner", "owner@mail.com"));
+        UserDto booker = userService.create(new User(0, "booker", "booker@mail.com"));
+        ItemDto item = itemService.create(ItemDto.builder()
+                .name("name")
+                .description("description")
+                .available(true)
+                .build(), owner.getId());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            ids.add(bookingService.create(BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusDays(i * 2L))
+                    .end(start.plusDays(i * 2L + 1))
+                    .build(), booker.getId()).getId());
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        doAnswer(invocation -> {
+            executor.submit(() -> bookingService.approve(ids.get(0), owner.getId(), true)).get(30, TimeUnit.SECONDS);
+            return mockingDetails(bookingRepository).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+        }).when(bookingRepository).decideAllWaiting(anyMap());
+
+        List<BookingDecisionResultDto> results = bookingService.approveAll(owner.getId(), List.of(
+                BookingDecisionDto.builder().bookingId(ids.get(0)).approved(true).build(),
+                BookingDecisionDto.builder().bookingId(ids.get(1)).approved(true).build()));
+        executor.shutdown();
+
+        Assertions.assertNull(results.get(0).getStatus());
+        Assertions.assertNotNull(results.get(0).getError());
+        Assertions.assertEquals(Status.APPROVED, results.get(1).getStatus());
+        Assertions.assertEquals(1L, bookingRepository.findById(ids.get(0)).orElseThrow().getVersion());
+        Assertions.assertEquals(Status.APPROVED, bookingRepository.findById(ids.get(1)).orElseThrow().getStatus());
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
@@ -18,6 +19,7 @@ import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 class BookingServiceImplTest {
@@ -34,7 +36,8 @@ class BookingServiceImplTest {
         bookingService = new BookingServiceImpl(
                 bookingRepository,
                 userService,
-                itemRepository
+                itemRepository,
+                Mockito.mock(ApplicationEventPublisher.class)
         );
     }
 
@@ -114,4 +117,32 @@ class BookingServiceImplTest {
 
         Assertions.assertNotNull(exception.getParameter());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createTestWithOverlappingBooking() {
+        User user = new User(1L, "testName", "test@mail.com");
+        User user2 = new User(2L, "testName2", "testEmail2@mail.com");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+        BookingRequestDto bookingRequestDto = BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+
+        Mockito.when(userService.getById(Mockito.anyLong()))
+                .thenReturn(UserMapper.toUserDto(user2));
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong()))
+                .thenReturn(Optional.of(item));
+
+        Mockito.when(bookingRepository.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(Mockito.anyLong(),
+                        Mockito.anyCollection(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        BookingIsNotAvailableException exception = Assertions.assertThrows(BookingIsNotAvailableException.class,
+                () -> bookingService.create(bookingRequestDto, user2.getId()));
+
+        Assertions.assertNotNull(exception.getParameter());
+        Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any(Booking.class));
+    }
+}
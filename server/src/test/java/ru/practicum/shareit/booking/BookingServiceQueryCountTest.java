@@ -0,0 +1,113 @@
+package ru.practicum.shareit.booking;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.cache.UserCache;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({BookingServiceImpl.class, UserServiceImpl.class, UserCache.class})
+class BookingServiceQueryCountTest {
+    private static final int BOOKINGS_COUNT = 50;
+    private static final long LIST_STATEMENT_BUDGET = 2;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+
+    private User booker;
+
+    private Booking booking;
+
+    @BeforeEach
+    void init() {
+        owner = em.persist(new User(0, "owner", "owner@mail.com"));
+        booker = em.persist(new User(0, "booker", "booker@mail.com"));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < BOOKINGS_COUNT; i++) {
+            User requester = em.persist(new User(0, "requester" + i, "requester" + i + "@mail.com"));
+            ItemRequest request = em.persist(new ItemRequest(null, "request" + i, requester, now));
+            Item item = em.persist(new Item(0, "item" + i, "description" + i, true, owner, request));
+            booking = em.persist(new Booking(null, now.plusDays(i + 1), now.plusDays(i + 2), item, booker,
+                    Status.WAITING));
+        }
+        em.flush();
+    }
+
+    @Test
+    void getAllByOwnerStaysWithinStatementBudget() {
+        for (String state : List.of("ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED")) {
+            Statistics statistics = clearStatistics();
+            List<BookingResponseDto> bookings = bookingService.getAllByOwner(owner.getId(), state, 0, BOOKINGS_COUNT);
+            bookings.forEach(this::touch);
+            Assertions.assertTrue(statistics.getPrepareStatementCount() <= LIST_STATEMENT_BUDGET, state);
+        }
+    }
+
+    @Test
+    void getAllByBookerStaysWithinStatementBudget() {
+        Statistics statistics = clearStatistics();
+        List<BookingResponseDto> bookings = bookingService.getAllByBooker(booker.getId(), "ALL", 0, BOOKINGS_COUNT);
+        bookings.forEach(this::touch);
+
+        Assertions.assertEquals(BOOKINGS_COUNT, bookings.size());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= LIST_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void getPageByBookerStaysWithinStatementBudget() {
+        Statistics statistics = clearStatistics();
+        List<BookingResponseDto> bookings = bookingService.getPageByBooker(booker.getId(), "ALL", "", BOOKINGS_COUNT)
+                .getBookings();
+        bookings.forEach(this::touch);
+
+        Assertions.assertEquals(BOOKINGS_COUNT, bookings.size());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= LIST_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void getByIdUsesOneStatement() {
+        Statistics statistics = clearStatistics();
+        touch(bookingService.getById(booking.getId(), owner.getId()));
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics clearStatistics() {
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void touch(BookingResponseDto booking) {
+        Assertions.assertNotNull(booking.getBooker().getName());
+        Assertions.assertNotNull(booking.getItem().getName());
+    }
+}
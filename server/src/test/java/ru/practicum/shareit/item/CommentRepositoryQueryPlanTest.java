@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.QueryContract;
+import ru.practicum.shareit.QueryPlanTest;
+import ru.practicum.shareit.item.repository.CommentRepository;
+
+import java.util.List;
+
+class CommentRepositoryQueryPlanTest extends QueryPlanTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void queriesMeetContracts() {
+        assertContracts(CommentRepository.class,
+                QueryContract.of("findAllByItemId", () -> commentRepository.findAllByItemId(1L))
+                        .seek("COMMENTS", "ITEM_ID"),
+                QueryContract.of("findAllByItemIdIn", () -> commentRepository.findAllByItemIdIn(List.of(1L, 2L, 3L)))
+                        .seek("COMMENTS", "ITEM_ID"),
+                QueryContract.of("findItemIdsByAuthorId", () -> commentRepository.findItemIdsByAuthorId(1L))
+                        .seek("COMMENTS", "AUTHOR_ID"));
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.BookingController;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
@@ -12,6 +15,8 @@ import ru.practicum.shareit.exceptions.BookingIsNotAvailableException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportErrorDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.itemRequest.ItemRequestController;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestDto;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
@@ -19,12 +24,16 @@ import ru.practicum.shareit.user.UserController;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -132,6 +141,27 @@ class ItemControllerTests {
         assertEquals(1, itemController.search("Desc", 0, 10).size());
     }
 
+    @Test
+    void searchSkipsItemsDeletedWithUser() {
+        UserDto owner = userController.create(UserMapper.toUser(userDto));
+        UserDto requester = userController.create(UserMapper.toUser(userDto.toBuilder()
+                .email("requester@email.com").build()));
+        UserDto answerer = userController.create(UserMapper.toUser(userDto.toBuilder()
+                .email("answerer@email.com").build()));
+        ItemRequestResponseDto request = itemRequestController.create(requester.getId(), itemRequestDto);
+        itemController.create(owner.getId(), itemDto.toBuilder().name("Дрель").build());
+        ItemDto answer = itemController.create(answerer.getId(), itemDto.toBuilder().name("Дрель ударная")
+                .requestId(request.getId()).build());
+
+        userController.delete(owner.getId());
+        assertEquals(List.of(answer.getId()), itemController.search("дрель", 0, 10).stream()
+                .map(ItemDto::getId).collect(Collectors.toList()));
+
+        userController.delete(requester.getId());
+        assertEquals(List.of(), itemController.search("дрель", 0, 10));
+        assertThrows(DataNotFoundException.class, () -> itemController.findById(answer.getId(), answerer.getId()));
+    }
+
     @Test
     void searchEmptyTextTest() {
         userController.create(UserMapper.toUser(userDto));
@@ -158,6 +188,55 @@ class ItemControllerTests {
         assertEquals(1, itemController.findById(1L, 1L).getComments().size());
     }
 
+    @Test
+    void findByIdAfterUpdateTest() {
+        userController.create(UserMapper.toUser(userDto));
+        itemController.create(1L, itemDto);
+        assertEquals(itemDto.getDescription(), itemController.findById(1L, 1L).getDescription());
+        itemController.update(itemDto.toBuilder().description("updateDescription").build(), 1L, 1L);
+        assertEquals("updateDescription", itemController.findById(1L, 1L).getDescription());
+    }
+
+    @Test
+    void findByIdAfterCommentAndBookingTest() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        ItemDto item = itemController.create(1L, itemDto);
+        UserDto user2 = userController.create(UserMapper.toUser(userDto.toBuilder().email("email2@mail.com").build()));
+        assertEquals(0, itemController.findById(item.getId(), user.getId()).getComments().size());
+        assertEquals(0, itemController.findById(item.getId(), user2.getId()).getComments().size());
+        bookingController.create(BookingRequestDto.builder()
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .itemId(item.getId()).build(), user2.getId());
+        bookingController.approve(1L, user.getId(), true);
+        assertEquals(1L, itemController.findById(item.getId(), user.getId()).getLastBooking().getId());
+        itemController.addComment(item.getId(), user2.getId(), comment);
+        assertEquals(1, itemController.findById(item.getId(), user.getId()).getComments().size());
+        assertEquals(1, itemController.findById(item.getId(), user2.getId()).getComments().size());
+    }
+
+    @Test
+    void findByIdShowsNewAuthorNameAfterRename() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        ItemDto item = itemController.create(user.getId(), itemDto);
+        UserDto user2 = userController.create(UserMapper.toUser(userDto.toBuilder().email("email2@mail.com").build()));
+        bookingController.create(BookingRequestDto.builder()
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .itemId(item.getId()).build(), user2.getId());
+        bookingController.approve(1L, user.getId(), true);
+        itemController.addComment(item.getId(), user2.getId(), comment);
+        assertEquals("name", itemController.findById(item.getId(), user.getId()).getComments().get(0).getAuthorName());
+        assertEquals("name", itemController.findById(item.getId(), user2.getId()).getComments().get(0).getAuthorName());
+
+        userController.update(UserMapper.toUser(UserDto.builder().name("renamed").build()), user2.getId());
+
+        assertEquals("renamed",
+                itemController.findById(item.getId(), user.getId()).getComments().get(0).getAuthorName());
+        assertEquals("renamed",
+                itemController.findById(item.getId(), user2.getId()).getComments().get(0).getAuthorName());
+    }
+
     @Test
     void createCommentByWrongUser() {
         assertThrows(DataNotFoundException.class, () -> itemController.addComment(1L, 1L, comment));
@@ -175,4 +254,101 @@ class ItemControllerTests {
     void getAllWithWrongFrom() {
         assertThrows(BadRequestException.class, () -> itemController.findAll(1L, -1, 10));
     }
+
+    @Test
+    void importItemsFromNdjsonTest() throws Exception {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        ItemRequestResponseDto itemRequest = itemRequestController.create(user.getId(), itemRequestDto);
+        String body = "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n" +
+                "\n" +
+                "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":false,\"requestId\":" +
+                itemRequest.getId() + "}\n" +
+                "{\"name\":\"Молоток\",\"description\":\n" +
+                "{\"name\":\"\",\"description\":\"Без названия\",\"available\":true}\n" +
+                "{\"name\":\"Лестница\",\"description\":\"Стремянка\",\"available\":true,\"requestId\":100}\n" +
+                "{\"name\":\"Тачка\",\"description\":\"Садовая\",\"available\":\"может быть\"}\n" +
+                "{\"name\":\"Ведро\",\"description\":\"Оцинкованное\",\"available\":true}";
+
+        ItemImportResultDto result = itemController.importItems(user.getId(), "application/x-ndjson",
+                importRequest(body, "application/x-ndjson"));
+
+        assertEquals(7, result.getReceived());
+        assertEquals(3, result.getCreated());
+        assertEquals(4, result.getFailed());
+        assertEquals(List.of(4, 5, 6, 7), result.getErrors().stream()
+                .map(ItemImportErrorDto::getRow)
+                .collect(Collectors.toList()));
+        List<ItemDto> items = itemController.findAll(user.getId(), 0, 10);
+        assertEquals(List.of("Дрель", "Пила", "Ведро"), items.stream()
+                .map(ItemDto::getName)
+                .collect(Collectors.toList()));
+        assertEquals(itemRequest.getId(), items.get(1).getRequestId());
+    }
+
+    @Test
+    void importItemsFromJsonArrayTest() throws Exception {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        String body = "[{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}," +
+                "{\"name\":\"Пила\",\"available\":true}]";
+
+        ItemImportResultDto result = itemController.importItems(user.getId(), MediaType.APPLICATION_JSON_VALUE,
+                importRequest(body, MediaType.APPLICATION_JSON_VALUE));
+
+        assertEquals(2, result.getReceived());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertThrows(BadRequestException.class, () -> itemController.importItems(user.getId(),
+                MediaType.APPLICATION_JSON_VALUE, importRequest("[{\"name\":", MediaType.APPLICATION_JSON_VALUE)));
+    }
+
+    @Test
+    void importItemsReportsBrokenArrayElement() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+
+        BadRequestException first = assertThrows(BadRequestException.class, () -> itemController.importItems(
+                user.getId(), MediaType.APPLICATION_JSON_VALUE,
+                importRequest("[{\"name\": }]", MediaType.APPLICATION_JSON_VALUE)));
+        BadRequestException second = assertThrows(BadRequestException.class, () -> itemController.importItems(
+                user.getId(), MediaType.APPLICATION_JSON_VALUE,
+                importRequest("[{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true},{\"name\": }]",
+                        MediaType.APPLICATION_JSON_VALUE)));
+
+        assertTrue(first.getParameter().startsWith("Некорректный JSON в элементе 1:"), first.getParameter());
+        assertTrue(second.getParameter().startsWith("Некорректный JSON в элементе 2:"), second.getParameter());
+    }
+
+    @Test
+    void importItemsReportsPartialResultWhenJsonBreaksAfterSavedChunk() throws Exception {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        String row = "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}";
+        String body = "[" + String.join(",", Collections.nCopies(502, row)) + ",{\"name\": }]";
+
+        ItemImportResultDto result = itemController.importItems(user.getId(), MediaType.APPLICATION_JSON_VALUE,
+                importRequest(body, MediaType.APPLICATION_JSON_VALUE));
+
+        assertEquals(503, result.getReceived());
+        assertEquals(500, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(501, 502, 503), result.getErrors().stream()
+                .map(ItemImportErrorDto::getRow)
+                .collect(Collectors.toList()));
+        assertTrue(result.getErrors().get(0).getError().startsWith("Загрузка прервана: Некорректный JSON"),
+                result.getErrors().get(0).getError());
+        assertTrue(result.getErrors().get(2).getError().startsWith("Некорректный JSON в элементе 503:"),
+                result.getErrors().get(2).getError());
+        assertEquals(500, itemController.findAll(user.getId(), 0, 1000).size());
+    }
+
+    @Test
+    void importItemsByWrongUser() {
+        assertThrows(DataNotFoundException.class, () -> itemController.importItems(1L,
+                MediaType.APPLICATION_JSON_VALUE, importRequest("[]", MediaType.APPLICATION_JSON_VALUE)));
+    }
+
+    private static MockHttpServletRequest importRequest(String body, String contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/items/bulk");
+        request.addHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
 }
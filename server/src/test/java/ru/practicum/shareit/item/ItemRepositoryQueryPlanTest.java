@@ -0,0 +1,42 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.QueryContract;
+import ru.practicum.shareit.QueryPlanTest;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+class ItemRepositoryQueryPlanTest extends QueryPlanTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    void queriesMeetContracts() {
+        assertContracts(ItemRepository.class,
+                QueryContract.of("findAllByOwnerIdOrderByIdAsc", () ->
+                        itemRepository.findAllByOwnerIdOrderByIdAsc(2L, PageRequest.of(1, 5)))
+                        .statements(2)
+                        .seek("ITEMS", "OWNER_ID"),
+                QueryContract.of("findAllByRequestIdIn", () ->
+                        itemRepository.findAllByRequestIdIn(List.of(1L, 2L)))
+                        .seek("ITEMS", "REQUEST_ID"),
+                QueryContract.of("findIdsByOwnerId", () -> itemRepository.findIdsByOwnerId(2L))
+                        .seek("ITEMS", "OWNER_ID"),
+                QueryContract.of("findIdsByRequestIdIn", () ->
+                        itemRepository.findIdsByRequestIdIn(List.of(1L, 2L)))
+                        .seek("ITEMS", "REQUEST_ID"),
+                QueryContract.of("findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc", () ->
+                        itemRepository.findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(1000L,
+                                PageRequest.of(0, 10)))
+                        .seek("ITEMS", "ID"),
+                QueryContract.of("findByIdForUpdate", () -> itemRepository.findByIdForUpdate(1L))
+                        .seek("ITEMS", "ID"),
+                QueryContract.of("search", () -> itemRepository.search("item1", PageRequest.of(0, 10)))
+                        .statements(2)
+                        .fullScan("ITEMS"));
+    }
+}
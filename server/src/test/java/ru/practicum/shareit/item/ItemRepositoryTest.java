@@ -88,11 +88,11 @@ class ItemRepositoryTest {
     }
 
     @Test
-    void findAllByRequestIdTest() {
-        List<Item> results = itemRepository.findAllByRequestId(request1.getId());
+    void findAllByRequestIdInTest() {
+        List<Item> results = itemRepository.findAllByRequestIdIn(List.of(request1.getId(), request3.getId()));
 
         Assertions.assertNotNull(results);
-        Assertions.assertEquals(1, results.size());
+        Assertions.assertEquals(2, results.size());
     }
 
     @AfterEach
@@ -0,0 +1,129 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.IndexedItem;
+import ru.practicum.shareit.item.search.ItemSavedEvent;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+class ItemSearchIndexTest {
+    private static final String[] WORDS = {"Дрель", "drill", "ОТВЁРТКА", "screwdriver", "Saw", "пила", "ladder",
+            "Лестница", "hammer", "молоток", "wow"};
+
+    ItemRepository itemRepository;
+    ItemSearchIndex searchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        itemRepository = Mockito.mock(ItemRepository.class);
+        searchIndex = new ItemSearchIndex(itemRepository, true);
+    }
+
+    @Test
+    void loadTestIndexesAvailableItems() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Mockito.when(itemRepository.findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(Mockito.anyLong(),
+                        Mockito.any(Pageable.class)))
+                .thenReturn(List.of(new Item(1L, "Дрель", "Простая дрель", true, user, null),
+                        new Item(2L, "Пила", "Ручная пила", true, user, null)));
+
+        Assertions.assertFalse(searchIndex.isReady());
+        searchIndex.load();
+
+        Assertions.assertTrue(searchIndex.isReady());
+        Assertions.assertEquals(2, searchIndex.size());
+        Assertions.assertEquals(List.of(1L), ids(searchIndex.search("дРеЛь", 0, 10)));
+    }
+
+    @Test
+    void searchTestMatchesSubstringQuery() {
+        Random random = new Random(42);
+        List<ItemDto> items = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            ItemDto item = randomItem(random, id);
+            items.add(item);
+            searchIndex.onItemSaved(new ItemSavedEvent(item));
+        }
+
+        for (String text : List.of("d", "Ри", "dri", "DRILL", "ёрт", "ер ha", "wow", "лестница molot", "xyz")) {
+            List<Long> expected = items.stream()
+                    .filter(item -> item.getAvailable() && (contains(item.getName(), text)
+                            || contains(item.getDescription(), text)))
+                    .map(ItemDto::getId)
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(expected, ids(searchIndex.search(text, 0, items.size())), text);
+            Assertions.assertEquals(expected.subList(Math.min(5, expected.size()), Math.min(10, expected.size())),
+                    ids(searchIndex.search(text, 5, 5)), text);
+        }
+    }
+
+    @Test
+    void searchTestFollowsItemUpdates() {
+        searchIndex.onItemSaved(new ItemSavedEvent(item(1L, "Дрель", "Простая дрель", true)));
+        Assertions.assertEquals(List.of(1L), ids(searchIndex.search("дрель", 0, 10)));
+
+        searchIndex.onItemSaved(new ItemSavedEvent(item(1L, "Пила", "Ручная пила", true)));
+        Assertions.assertEquals(List.of(), ids(searchIndex.search("дрель", 0, 10)));
+        Assertions.assertEquals(List.of(1L), ids(searchIndex.search("пила", 0, 10)));
+
+        searchIndex.onItemSaved(new ItemSavedEvent(item(1L, "Пила", "Ручная пила", false)));
+        Assertions.assertEquals(List.of(), ids(searchIndex.search("пила", 0, 10)));
+        Assertions.assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void searchTestDropsItemsRemovedWithUser() {
+        searchIndex.onItemSaved(new ItemSavedEvent(item(1L, "Дрель", "Простая дрель", true)));
+        searchIndex.onItemSaved(new ItemSavedEvent(item(2L, "Дрель", "Ударная дрель", true)));
+        searchIndex.onItemSaved(new ItemSavedEvent(item(3L, "Пила", "Ручная пила", true)));
+
+        searchIndex.onUserDeleted(new UserDeletedEvent(1L, List.of(1L, 3L), List.of()));
+
+        Assertions.assertEquals(List.of(2L), ids(searchIndex.search("дрель", 0, 10)));
+        Assertions.assertEquals(List.of(), ids(searchIndex.search("пила", 0, 10)));
+        Assertions.assertEquals(1, searchIndex.size());
+    }
+
+    private static ItemDto randomItem(Random random, long id) {
+        return item(id, randomText(random, 2), randomText(random, 4), random.nextInt(5) != 0);
+    }
+
+    private static String randomText(Random random, int words) {
+        List<String> text = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            text.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return String.join(" ", text);
+    }
+
+    private static ItemDto item(long id, String name, String description, boolean available) {
+        return ItemDto.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build();
+    }
+
+    private static boolean contains(String value, String text) {
+        return value.toUpperCase(Locale.ROOT).contains(text.toUpperCase(Locale.ROOT));
+    }
+
+    private static List<Long> ids(List<IndexedItem> items) {
+        return items.stream().map(IndexedItem::getId).collect(Collectors.toList());
+    }
+}
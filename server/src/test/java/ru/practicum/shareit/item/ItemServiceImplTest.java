@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
@@ -13,25 +16,37 @@ import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.item.bulk.ItemImportRow;
+import ru.practicum.shareit.item.cache.ItemChangedEvent;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportErrorDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class ItemServiceImplTest {
 
@@ -41,6 +56,7 @@ class ItemServiceImplTest {
     BookingRepository bookingRepository;
     CommentRepository commentRepository;
     ItemRequestRepository itemRequestRepository;
+    ItemDetailsCache itemDetailsCache;
 
     @BeforeEach
     void beforeEach() {
@@ -49,12 +65,17 @@ class ItemServiceImplTest {
         bookingRepository = Mockito.mock(BookingRepository.class);
         commentRepository = Mockito.mock(CommentRepository.class);
         itemRequestRepository = Mockito.mock(ItemRequestRepository.class);
+        itemDetailsCache = new ItemDetailsCache(100, Duration.ofMinutes(10));
         itemService = new ItemServiceImpl(
                 itemRepository,
                 userService,
                 bookingRepository,
                 commentRepository,
-                itemRequestRepository
+                itemRequestRepository,
+                itemDetailsCache,
+                Mockito.mock(ItemSearchIndex.class),
+                Mockito.mock(ApplicationEventPublisher.class),
+                TransactionOperations.withoutTransaction()
         );
     }
 
@@ -288,13 +309,13 @@ class ItemServiceImplTest {
         Mockito.when(itemRepository.findAllByOwnerIdOrderByIdAsc(Mockito.anyLong(), Mockito.any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(ItemMapper.toItem(itemDto))));
 
-        Mockito.when(commentRepository.findAllByItemId(Mockito.anyLong()))
+        Mockito.when(commentRepository.findAllByItemIdIn(Mockito.anyCollection()))
                 .thenReturn(Collections.emptyList());
 
-        Mockito.when(bookingRepository.findAllByItemIdAndEndBeforeOrderByStartAsc(Mockito.anyLong(), Mockito.any(LocalDateTime.class)))
+        Mockito.when(bookingRepository.findLastBookingsByItemIdIn(Mockito.anyCollection(), Mockito.any(LocalDateTime.class)))
                 .thenReturn(List.of(BookingMapper.toBooking(bookingShortDtoLast, item, user2)));
 
-        Mockito.when(bookingRepository.findAllByItemIdAndStartAfterOrderByStartAsc(Mockito.anyLong(), Mockito.any(LocalDateTime.class)))
+        Mockito.when(bookingRepository.findNextBookingsByItemIdIn(Mockito.anyCollection(), Mockito.any(LocalDateTime.class)))
                 .thenReturn(List.of(BookingMapper.toBooking(bookingShortDtoNext, item, user2)));
 
         List<ItemDto> itemDtos = itemService.findAll(user.getId(), 0, 10);
@@ -347,5 +368,178 @@ class ItemServiceImplTest {
 
         Assertions.assertNotNull(exception.getParameter());
     }
-}
 
+    @Test
+    void findByIdTestReturnsCachedItem() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong()))
+                .thenReturn(Optional.of(item));
+
+        ItemDto firstCall = itemService.findById(item.getId(), 2L);
+        ItemDto secondCall = itemService.findById(item.getId(), 2L);
+
+        Assertions.assertEquals(firstCall, secondCall);
+        Mockito.verify(itemRepository, Mockito.times(1)).findById(item.getId());
+    }
+
+    @Test
+    void findByIdTestSeparatesOwnerAndNonOwnerViews() {
+        User user = new User(1L, "testName", "test@mail.com");
+        User user2 = new User(2L, "testName2", "test@mail.com2");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+        Booking lastBooking = new Booking(1L, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1),
+                item, user2, Status.APPROVED);
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong()))
+                .thenReturn(Optional.of(item));
+
+        Mockito.when(bookingRepository.findAllByItemIdAndItemOwnerIdAndStartBeforeOrderByEndDesc(Mockito.anyLong(),
+                        Mockito.anyLong(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(lastBooking));
+
+        Assertions.assertNull(itemService.findById(item.getId(), user2.getId()).getLastBooking());
+        Assertions.assertNotNull(itemService.findById(item.getId(), user.getId()).getLastBooking());
+        Assertions.assertNull(itemService.findById(item.getId(), user2.getId()).getLastBooking());
+        Mockito.verify(itemRepository, Mockito.times(2)).findById(item.getId());
+    }
+
+    @Test
+    void findByIdTestReloadsEvictedItem() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong()))
+                .thenReturn(Optional.of(item));
+
+        itemService.findById(item.getId(), 2L);
+        itemDetailsCache.evict(item.getId());
+        itemService.findById(item.getId(), 2L);
+
+        Mockito.verify(itemRepository, Mockito.times(2)).findById(item.getId());
+    }
+
+    @Test
+    void findByIdTestReturnsCopiesOfCachedView() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong()))
+                .thenReturn(Optional.of(item));
+
+        ItemDto loaded = itemService.findById(item.getId(), 2L);
+        loaded.setName("changedByCaller");
+        ItemDto cached = itemService.findById(item.getId(), 2L);
+        cached.setDescription("changedByCaller");
+
+        Assertions.assertEquals("testName", itemService.findById(item.getId(), 2L).getName());
+        Assertions.assertEquals("testDescription", itemService.findById(item.getId(), 2L).getDescription());
+        Mockito.verify(itemRepository, Mockito.times(1)).findById(item.getId());
+    }
+
+    @Test
+    void findByIdTestDoesNotCacheViewReadBeforeEviction() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong()))
+                .thenAnswer(invocation -> {
+                    itemDetailsCache.onItemChanged(new ItemChangedEvent(item.getId()));
+                    return Optional.of(item);
+                });
+
+        itemService.findById(item.getId(), 2L);
+        itemService.findById(item.getId(), 2L);
+
+        Mockito.verify(itemRepository, Mockito.times(2)).findById(item.getId());
+    }
+
+    @Test
+    void findByIdTestReloadsItemsRemovedWithUser() {
+        User user = new User(1L, "testName", "test@mail.com");
+        User requester = new User(3L, "requester", "requester@mail.com");
+        User answerOwner = new User(4L, "answerOwner", "answerOwner@mail.com");
+        Item item = new Item(1L, "testName", "testDescription", true, user, null);
+        Item answer = new Item(2L, "answerName", "answerDescription", true, answerOwner,
+                new ItemRequest(1L, "request", requester, LocalDateTime.now()));
+
+        Mockito.when(itemRepository.findById(item.getId()))
+                .thenReturn(Optional.of(item));
+        Mockito.when(itemRepository.findById(answer.getId()))
+                .thenReturn(Optional.of(answer));
+
+        itemService.findById(item.getId(), 2L);
+        itemService.findById(answer.getId(), 2L);
+        itemDetailsCache.onUserDeleted(new UserDeletedEvent(user.getId(), List.of(), List.of()));
+        itemDetailsCache.onUserDeleted(new UserDeletedEvent(requester.getId(), List.of(answer.getId()),
+                List.of(1L)));
+        itemService.findById(item.getId(), 2L);
+        itemService.findById(answer.getId(), 2L);
+
+        Mockito.verify(itemRepository, Mockito.times(2)).findById(item.getId());
+        Mockito.verify(itemRepository, Mockito.times(2)).findById(answer.getId());
+    }
+
+    @Test
+    void importReportsPartialResultWhenLaterChunkFails() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Mockito.when(userService.getById(1L)).thenReturn(UserMapper.toUserDto(user));
+        Mockito.when(itemRepository.saveAll(Mockito.anyList()))
+                .then(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("items"));
+
+        ItemImportResultDto result = itemService.importItems(1L, importRows(1200));
+
+        Assertions.assertEquals(1200, result.getReceived());
+        Assertions.assertEquals(500, result.getCreated());
+        Assertions.assertEquals(700, result.getFailed());
+        Assertions.assertEquals(IntStream.rangeClosed(501, 1200).boxed().collect(Collectors.toList()),
+                result.getErrors().stream().map(ItemImportErrorDto::getRow).collect(Collectors.toList()));
+        Assertions.assertEquals("Порция не сохранена из-за ошибки сервера", result.getErrors().get(0).getError());
+        Assertions.assertEquals("Загрузка прервана после ошибки сохранения", result.getErrors().get(500).getError());
+        Mockito.verify(itemRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    void importFailsWhenFirstChunkIsNotSaved() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Mockito.when(userService.getById(1L)).thenReturn(UserMapper.toUserDto(user));
+        Mockito.when(itemRepository.saveAll(Mockito.anyList()))
+                .thenThrow(new DataIntegrityViolationException("items"));
+
+        Assertions.assertThrows(DataIntegrityViolationException.class,
+                () -> itemService.importItems(1L, importRows(3)));
+    }
+
+    @Test
+    void importChecksRequestsOfChunkWithOneQuery() {
+        User user = new User(1L, "testName", "test@mail.com");
+        Mockito.when(userService.getById(1L)).thenReturn(UserMapper.toUserDto(user));
+        Mockito.when(itemRequestRepository.findExistingIds(Mockito.anyCollection())).thenReturn(Set.of(5L));
+        ItemDto item = ItemDto.builder().name("Дрель").description("Ударная").available(true).build();
+
+        ItemImportResultDto result = itemService.importItems(1L, List.of(
+                ItemImportRow.of(1, item.toBuilder().requestId(5L).build()),
+                ItemImportRow.of(2, item.toBuilder().requestId(6L).build()),
+                ItemImportRow.of(3, item),
+                ItemImportRow.of(4, item.toBuilder().requestId(5L).build())).iterator());
+
+        Assertions.assertEquals(3, result.getCreated());
+        Assertions.assertEquals(1, result.getFailed());
+        Assertions.assertEquals(2, result.getErrors().get(0).getRow());
+        Assertions.assertEquals("Запрос с id = 6 не найден", result.getErrors().get(0).getError());
+        Mockito.verify(itemRequestRepository).findExistingIds(Set.of(5L, 6L));
+        Mockito.verify(itemRequestRepository, Mockito.never()).existsById(Mockito.anyLong());
+    }
+
+    private static Iterator<ItemImportRow<ItemDto>> importRows(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(row -> ItemImportRow.of(row, ItemDto.builder()
+                        .name("Дрель")
+                        .description("Ударная")
+                        .available(true)
+                        .build()))
+                .iterator();
+    }
+}
@@ -0,0 +1,147 @@
+package ru.practicum.shareit.item;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.bulk.ItemImportRow;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.cache.UserCache;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ItemServiceImpl.class, UserServiceImpl.class, UserCache.class, ItemDetailsCache.class, ItemSearchIndex.class})
+class ItemServiceQueryCountTest {
+    private static final int ITEMS_COUNT = 30;
+    private static final long FIND_ALL_STATEMENT_BUDGET = 5;
+    private static final long FIND_BY_ID_STATEMENT_BUDGET = 4;
+    private static final int IMPORTED_ITEMS_COUNT = 120;
+    private static final long IMPORT_STATEMENT_BUDGET = 8;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+
+    @BeforeEach
+    void init() {
+        owner = em.persist(new User(0, "owner", "owner@mail.com"));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS_COUNT; i++) {
+            User booker = em.persist(new User(0, "booker" + i, "booker" + i + "@mail.com"));
+            ItemRequest request = em.persist(new ItemRequest(null, "request" + i, booker, now));
+            Item item = em.persist(new Item(0, "item" + i, "description" + i, true, owner, request));
+            em.persist(new Booking(null, now.minusDays(3), now.minusDays(2), item, booker, Status.APPROVED));
+            em.persist(new Booking(null, now.plusDays(2), now.plusDays(3), item, booker, Status.WAITING));
+            em.persist(new Comment(null, "comment" + i, item, booker, now.minusDays(1)));
+        }
+        em.flush();
+    }
+
+    @Test
+    void findAllQueryCountDoesNotDependOnPageSize() {
+        long smallPageStatements = countStatements(2);
+        long largePageStatements = countStatements(ITEMS_COUNT);
+
+        Assertions.assertEquals(smallPageStatements, largePageStatements);
+        Assertions.assertTrue(largePageStatements <= FIND_ALL_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void findByIdStaysWithinStatementBudget() {
+        Long itemId = itemService.findAll(owner.getId(), 0, 1).get(0).getId();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ItemDto item = itemService.findById(itemId, owner.getId());
+
+        Assertions.assertEquals(1, item.getComments().size());
+        Assertions.assertNotNull(item.getLastBooking());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= FIND_BY_ID_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void repeatedFindByIdIsServedFromCache() {
+        Long itemId = itemService.findAll(owner.getId(), 0, 1).get(0).getId();
+        ItemDto item = itemService.findById(itemId, owner.getId());
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Assertions.assertEquals(item, itemService.findById(itemId, owner.getId()));
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllReturnsBookingsAndComments() {
+        em.clear();
+        List<ItemDto> items = itemService.findAll(owner.getId(), 0, ITEMS_COUNT);
+
+        Assertions.assertEquals(ITEMS_COUNT, items.size());
+        for (ItemDto item : items) {
+            Assertions.assertEquals(1, item.getComments().size());
+            Assertions.assertNotNull(item.getLastBooking());
+            Assertions.assertNotNull(item.getNextBooking());
+        }
+    }
+
+    @Test
+    void importInsertsItemsInJdbcBatches() {
+        List<ItemImportRow<ItemDto>> rows = new ArrayList<>();
+        for (int i = 0; i < IMPORTED_ITEMS_COUNT; i++) {
+            rows.add(ItemImportRow.of(i + 1, ItemDto.builder()
+                    .name("imported" + i)
+                    .description("description" + i)
+                    .available(true)
+                    .build()));
+        }
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ItemImportResultDto result = itemService.importItems(owner.getId(), rows.iterator());
+        em.flush();
+
+        Assertions.assertEquals(IMPORTED_ITEMS_COUNT, result.getCreated());
+        Assertions.assertEquals(IMPORTED_ITEMS_COUNT, statistics.getEntityInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= IMPORT_STATEMENT_BUDGET,
+                "выполнено запросов: " + statistics.getPrepareStatementCount());
+    }
+
+    private long countStatements(int size) {
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ItemDto> items = itemService.findAll(owner.getId(), 0, size);
+        Assertions.assertEquals(size, items.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.item.bulk;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemImportReaderTest {
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new ParameterNamesModule(JsonCreator.Mode.DEFAULT));
+
+    @Test
+    void readsJsonArrayElementsWithTheirNumbers() {
+        List<ItemImportRow<ItemDto>> rows = readAll(reader("[" +
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}," +
+                "\"Пила\"," +
+                "{\"name\":\"Тачка\",\"description\":\"Садовая\",\"available\":\"может быть\"}," +
+                "{\"name\":\"Ведро\",\"description\":\"Оцинкованное\",\"available\":true,\"requestId\":3}]", false));
+
+        assertEquals(4, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(i + 1, rows.get(i).getRow());
+        }
+        assertEquals("Дрель", rows.get(0).getItem().getName());
+        assertNull(rows.get(0).getError());
+        assertEquals("Ожидается JSON-объект предмета", rows.get(1).getError());
+        assertTrue(rows.get(2).getError().startsWith("Некорректное значение поля"), rows.get(2).getError());
+        assertEquals(3L, rows.get(3).getItem().getRequestId());
+    }
+
+    @Test
+    void reportsBrokenArrayElementByItsNumber() {
+        ItemImportReader<ItemDto> first = reader("[{\"name\": }]", false);
+        ItemImportSyntaxException firstError = assertThrows(ItemImportSyntaxException.class, first::hasNext);
+        ItemImportReader<ItemDto> second = reader("[{\"name\":\"Дрель\",\"description\":\"Ударная\"," +
+                "\"available\":true},{\"name\": }]", false);
+        second.next();
+        ItemImportSyntaxException secondError = assertThrows(ItemImportSyntaxException.class, second::hasNext);
+        ItemImportReader<ItemDto> truncated = reader("[{\"name\":\"Дрель\",\"description\":\"Ударная\"," +
+                "\"available\":true},", false);
+        truncated.next();
+        ItemImportSyntaxException truncatedError = assertThrows(ItemImportSyntaxException.class, truncated::hasNext);
+
+        assertTrue(firstError.getParameter().startsWith("Некорректный JSON в элементе 1:"), firstError.getParameter());
+        assertEquals(1, firstError.getRow());
+        assertTrue(secondError.getParameter().startsWith("Некорректный JSON в элементе 2:"),
+                secondError.getParameter());
+        assertEquals(2, secondError.getRow());
+        assertTrue(truncatedError.getParameter().startsWith("Некорректный JSON в элементе 2:"),
+                truncatedError.getParameter());
+        assertEquals(2, truncatedError.getRow());
+    }
+
+    @Test
+    void rejectsDocumentThatIsNotArray() {
+        assertThrows(BadRequestException.class, () -> reader("{\"name\":\"Дрель\"}", false));
+        assertThrows(BadRequestException.class, () -> reader("[{", false).next());
+    }
+
+    @Test
+    void numbersNdjsonLinesIncludingBlankOnes() {
+        List<ItemImportRow<ItemDto>> rows = readAll(reader(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n" +
+                        "\n" +
+                        "{\"name\":\"Молоток\",\"description\":\n" +
+                        "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":false}\n", true));
+
+        assertEquals(3, rows.size());
+        assertEquals(1, rows.get(0).getRow());
+        assertNotNull(rows.get(0).getItem());
+        assertEquals(3, rows.get(1).getRow());
+        assertTrue(rows.get(1).getError().startsWith("Некорректный JSON"), rows.get(1).getError());
+        assertEquals(4, rows.get(2).getRow());
+        assertEquals("Пила", rows.get(2).getItem().getName());
+    }
+
+    private ItemImportReader<ItemDto> reader(String body, boolean ndjson) {
+        return new ItemImportReader<>(mapper, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ndjson,
+                ItemDto.class);
+    }
+
+    private static List<ItemImportRow<ItemDto>> readAll(ItemImportReader<ItemDto> reader) {
+        List<ItemImportRow<ItemDto>> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -4,17 +4,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestDto;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.itemRequest.dto.RequestMatchDto;
 import ru.practicum.shareit.user.UserController;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -25,6 +35,9 @@ class ItemRequestControllerTest {
     @Autowired
     private UserController userController;
 
+    @Autowired
+    private ItemController itemController;
+
     private ItemRequestDto itemRequestDto;
 
     private UserDto userDto;
@@ -85,4 +98,54 @@ class ItemRequestControllerTest {
     void getAllWithWrongFrom() {
         assertThrows(BadRequestException.class, () -> itemRequestController.getAll(-1, 10, 1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPageWithCursorTest() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        for (int i = 0; i < 3; i++) {
+            itemRequestController.create(user.getId(), itemRequestDto);
+        }
+        UserDto user2 = userController.create(UserMapper.toUser(userDto.toBuilder().email("user1@email.com").build()));
+
+        ResponseEntity<List<ItemRequestResponseDto>> firstPage = itemRequestController.getPage("", 2, user2.getId());
+        String cursor = firstPage.getHeaders().getFirst(ItemRequestController.NEXT_CURSOR_HEADER);
+        assertEquals(2, firstPage.getBody().size());
+        assertEquals(3L, firstPage.getBody().get(0).getId());
+        assertNotNull(cursor);
+
+        ResponseEntity<List<ItemRequestResponseDto>> secondPage = itemRequestController.getPage(cursor, 2, user2.getId());
+        assertEquals(1, secondPage.getBody().size());
+        assertEquals(1L, secondPage.getBody().get(0).getId());
+        assertNull(secondPage.getHeaders().getFirst(ItemRequestController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getPageWithWrongCursorTest() {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        assertThrows(BadRequestException.class, () -> itemRequestController.getPage("wrong", 2, user.getId()));
+    }
+
+    @Test
+    void getMatchesTest() throws Exception {
+        UserDto user = userController.create(UserMapper.toUser(userDto));
+        ItemRequestResponseDto itemRequest = itemRequestController.create(user.getId(),
+                ItemRequestDto.builder().description("Нужна ударная дрель").build());
+        UserDto owner = userController.create(UserMapper.toUser(userDto.toBuilder().email("user1@email.com").build()));
+        ItemDto item = itemController.create(owner.getId(), ItemDto.builder()
+                .name("Дрель")
+                .description("Дрель ударная, с набором сверл")
+                .available(true)
+                .build());
+
+        List<RequestMatchDto> matches = itemRequestController.getMatches(0, user.getId()).get(1, TimeUnit.SECONDS);
+        assertEquals(1, matches.size());
+        assertEquals(itemRequest.getId(), matches.get(0).getRequestId());
+        assertEquals(item.getId(), matches.get(0).getItem().getId());
+        assertTrue(itemRequestController.getMatches(0, owner.getId()).getNow(List.of()).isEmpty());
+    }
+
+    @Test
+    void getMatchesByWrongUserTest() {
+        assertThrows(DataNotFoundException.class, () -> itemRequestController.getMatches(0, 1L));
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.itemRequest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.QueryContract;
+import ru.practicum.shareit.QueryPlanTest;
+import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
+
+import java.util.List;
+
+class ItemRequestRepositoryQueryPlanTest extends QueryPlanTest {
+    private static final Sort FEED_ORDER = Sort.by("created").descending().and(Sort.by("id").descending());
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Test
+    void queriesMeetContracts() {
+        assertContracts(ItemRequestRepository.class,
+                QueryContract.of("findAllByRequesterIdOrderByCreatedAsc", () ->
+                        itemRequestRepository.findAllByRequesterIdOrderByCreatedAsc(2L))
+                        .seek("ITEM_REQUESTS", "REQUESTER_ID"),
+                QueryContract.of("findIdsByRequesterId", () -> itemRequestRepository.findIdsByRequesterId(2L))
+                        .seek("ITEM_REQUESTS", "REQUESTER_ID"),
+                QueryContract.of("findExistingIds", () -> itemRequestRepository.findExistingIds(List.of(1L, 2L)))
+                        .seek("ITEM_REQUESTS", "ID"),
+                QueryContract.of("findAll", () ->
+                        itemRequestRepository.findAll(2L, PageRequest.of(0, 11, FEED_ORDER)))
+                        .indexScan("ITEM_REQUESTS"),
+                QueryContract.of("findAllAfter", () ->
+                        itemRequestRepository.findAllAfter(2L, now.minusHours(100), 1900L, PageRequest.of(0, 11)))
+                        .indexScan("ITEM_REQUESTS"),
+                QueryContract.of("findAllByIdGreaterThanOrderByIdAsc", () ->
+                        itemRequestRepository.findAllByIdGreaterThanOrderByIdAsc(1000L, PageRequest.of(0, 1000)))
+                        .seek("ITEM_REQUESTS", "ID"));
+    }
+}
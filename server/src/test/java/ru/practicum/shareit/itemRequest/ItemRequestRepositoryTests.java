@@ -11,6 +11,7 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,4 +46,22 @@ class ItemRequestRepositoryTests {
         assertThat(itemRequestRepository.findAll(user2.getId(), Pageable.ofSize(10))
                 .stream().count(), equalTo(1L));
     }
+
+    @Test
+    void findAllAfterTest() {
+        User user = userRepository.save(User.builder().name("name").email("email@email.com").build());
+        User user2 = userRepository.save(User.builder().name("name2").email("email2@email.com").build());
+        LocalDateTime created = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        ItemRequest first = itemRequestRepository.save(ItemRequest.builder().description("description")
+                .requester(user).created(created).build());
+        ItemRequest second = itemRequestRepository.save(ItemRequest.builder().description("description")
+                .requester(user).created(created).build());
+        ItemRequest third = itemRequestRepository.save(ItemRequest.builder().description("description")
+                .requester(user).created(created.minusDays(1)).build());
+        List<ItemRequest> items = itemRequestRepository.findAllAfter(user2.getId(), second.getCreated(),
+                second.getId(), Pageable.ofSize(10));
+        assertThat(items, equalTo(List.of(first, third)));
+        assertThat(itemRequestRepository.findAllAfter(user.getId(), second.getCreated(), second.getId(),
+                Pageable.ofSize(10)).size(), equalTo(0));
+    }
 }
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.itemRequest;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestPageDto;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.itemRequest.matching.RequestMatchNotifier;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.itemRequest.service.ItemRequestService;
+import ru.practicum.shareit.itemRequest.service.ItemRequestServiceImpl;
+import ru.practicum.shareit.user.cache.UserCache;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ItemRequestServiceImpl.class, RequestMatchNotifier.class, UserServiceImpl.class, UserCache.class})
+class ItemRequestServiceQueryCountTest {
+    private static final int REQUESTS_COUNT = 50;
+    private static final int ITEMS_PER_REQUEST = 2;
+    private static final long STATEMENT_BUDGET = 2;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User requester;
+    private User owner;
+
+    @BeforeEach
+    void init() {
+        requester = em.persist(new User(0, "requester", "requester@mail.com"));
+        owner = em.persist(new User(0, "owner", "owner@mail.com"));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < REQUESTS_COUNT; i++) {
+            ItemRequest request = em.persist(new ItemRequest(null, "request" + i, requester, now.minusMinutes(i)));
+            for (int j = 0; j < ITEMS_PER_REQUEST; j++) {
+                em.persist(new Item(0, "item" + i + "_" + j, "description", true, owner, request));
+            }
+        }
+        em.flush();
+        userService.checkExists(owner.getId());
+        userService.checkExists(requester.getId());
+    }
+
+    @Test
+    void getAllQueryCountDoesNotDependOnPageSize() {
+        long smallPageStatements = countGetAllStatements(2);
+        long largePageStatements = countGetAllStatements(REQUESTS_COUNT);
+
+        Assertions.assertEquals(smallPageStatements, largePageStatements);
+        Assertions.assertTrue(largePageStatements <= STATEMENT_BUDGET);
+    }
+
+    @Test
+    void getPageWalksWholeFeedWithConstantQueryCount() {
+        List<Long> seen = new ArrayList<>();
+        List<Long> statements = new ArrayList<>();
+        String cursor = "";
+        do {
+            Statistics statistics = clearStatistics();
+            ItemRequestPageDto page = itemRequestService.getPage(cursor, 7, owner.getId());
+            statements.add(statistics.getPrepareStatementCount());
+            page.getRequests().forEach(request -> {
+                Assertions.assertEquals(ITEMS_PER_REQUEST, request.getItems().size());
+                seen.add(request.getId());
+            });
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> expected = new ArrayList<>();
+        itemRequestService.getAll(0, REQUESTS_COUNT, owner.getId()).forEach(request -> expected.add(request.getId()));
+        Assertions.assertEquals(expected, seen);
+        statements.forEach(count -> Assertions.assertEquals(statements.get(0), count));
+        Assertions.assertTrue(statements.get(0) <= STATEMENT_BUDGET);
+    }
+
+    @Test
+    void getAllByUserStaysWithinStatementBudget() {
+        Statistics statistics = clearStatistics();
+
+        List<ItemRequestResponseDto> requests = itemRequestService.getAllByUser(requester.getId());
+
+        Assertions.assertEquals(REQUESTS_COUNT, requests.size());
+        requests.forEach(request -> Assertions.assertEquals(ITEMS_PER_REQUEST, request.getItems().size()));
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= STATEMENT_BUDGET);
+    }
+
+    @Test
+    void getByIdReturnsItemsOfRequest() {
+        Long requestId = itemRequestService.getAllByUser(requester.getId()).get(0).getId();
+        em.clear();
+
+        ItemRequestResponseDto request = itemRequestService.getById(requestId, owner.getId());
+
+        Assertions.assertEquals(ITEMS_PER_REQUEST, request.getItems().size());
+        request.getItems().forEach(item -> Assertions.assertEquals(requestId, item.getRequestId()));
+    }
+
+    private long countGetAllStatements(int size) {
+        Statistics statistics = clearStatistics();
+        List<ItemRequestResponseDto> requests = itemRequestService.getAll(0, size, owner.getId());
+        Assertions.assertEquals(size, requests.size());
+        requests.forEach(request -> Assertions.assertEquals(ITEMS_PER_REQUEST, request.getItems().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics clearStatistics() {
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.itemRequest.matching;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemCreatedEvent;
+import ru.practicum.shareit.itemRequest.dto.RequestMatchDto;
+import ru.practicum.shareit.itemRequest.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.cache.UserDeletedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class RequestMatchingEngineTest {
+    private static final long REQUESTER_ID = 1L;
+    private static final long OWNER_ID = 2L;
+
+    private RequestMatchNotifier notifier;
+    private RequestMatchingEngine engine;
+
+    @BeforeEach
+    void init() {
+        notifier = new RequestMatchNotifier(Duration.ofSeconds(5), Duration.ofHours(1));
+        engine = new RequestMatchingEngine(Mockito.mock(ItemRequestRepository.class), notifier, 0.5, 100);
+        engine.onItemRequestCreated(new ItemRequestCreatedEvent(10L, REQUESTER_ID, "Нужна ударная дрель"));
+        engine.onItemRequestCreated(new ItemRequestCreatedEvent(11L, REQUESTER_ID, "Looking for a tent for 4 people"));
+        engine.onItemRequestCreated(new ItemRequestCreatedEvent(12L, OWNER_ID, "Ищу дрель"));
+    }
+
+    @Test
+    void matchByKeywordsIgnoresCaseAndWordEndings() {
+        Assertions.assertEquals(List.of(10L), engine.matchRequestIds(item("ДРЕЛИ", "ударные, почти новые", null),
+                OWNER_ID));
+        Assertions.assertEquals(List.of(11L), engine.matchRequestIds(item("Tents", "Camping tent", null), OWNER_ID));
+    }
+
+    @Test
+    void matchSkipsUnrelatedItems() {
+        Assertions.assertTrue(engine.matchRequestIds(item("Молоток", "Для гвоздей", null), OWNER_ID).isEmpty());
+        Assertions.assertTrue(engine.matchRequestIds(item("Велосипед", "Для людей", null), OWNER_ID).isEmpty());
+    }
+
+    @Test
+    void matchIncludesExplicitRequestAndSkipsOwnRequests() {
+        Assertions.assertEquals(List.of(11L), engine.matchRequestIds(item("Палатка", "Четырехместная", 11L),
+                OWNER_ID));
+        Assertions.assertEquals(List.of(10L), engine.matchRequestIds(item("Дрель", "Ударная", 12L), OWNER_ID));
+    }
+
+    @Test
+    void unavailableItemMatchesOnlyExplicitRequest() {
+        ItemDto item = item("Дрель", "Ударная", 11L).toBuilder().available(false).build();
+
+        Assertions.assertEquals(List.of(11L), engine.matchRequestIds(item, OWNER_ID));
+    }
+
+    @Test
+    void deletedRequesterRequestsNoLongerMatch() {
+        engine.onUserDeleted(new UserDeletedEvent(REQUESTER_ID, List.of(), List.of(10L)));
+
+        Assertions.assertEquals(1, engine.size());
+        Assertions.assertTrue(engine.matchRequestIds(item("Дрель", "Ударная", null), OWNER_ID).isEmpty());
+        Assertions.assertTrue(engine.matchRequestIds(item("Tents", "Camping tent", 11L), OWNER_ID).isEmpty());
+        Assertions.assertEquals(List.of(12L), engine.matchRequestIds(item("Дрель", "Ударная", null), REQUESTER_ID));
+    }
+
+    @Test
+    void indexEvictsOldestRequestsWhenFull() {
+        RequestMatchingEngine bounded = new RequestMatchingEngine(Mockito.mock(ItemRequestRepository.class),
+                notifier, 0.5, 2);
+        bounded.onItemRequestCreated(new ItemRequestCreatedEvent(10L, REQUESTER_ID, "Нужна ударная дрель"));
+        bounded.onItemRequestCreated(new ItemRequestCreatedEvent(11L, REQUESTER_ID, "Нужна палатка"));
+        bounded.onItemRequestCreated(new ItemRequestCreatedEvent(12L, REQUESTER_ID, "Ищу дрель"));
+
+        Assertions.assertEquals(2, bounded.size());
+        Assertions.assertEquals(List.of(12L), bounded.matchRequestIds(item("Дрель", "Ударная", null), OWNER_ID));
+        Assertions.assertEquals(List.of(11L), bounded.matchRequestIds(item("Палатка", "Двухместная", null),
+                OWNER_ID));
+    }
+
+    @Test
+    void pollWaitsForMatch() throws Exception {
+        CompletableFuture<List<RequestMatchDto>> poll = notifier.poll(REQUESTER_ID, 0);
+        Assertions.assertFalse(poll.isDone());
+
+        engine.onItemCreated(new ItemCreatedEvent(item("Дрель", "Ударная", null), OWNER_ID));
+
+        List<RequestMatchDto> matches = poll.get(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, matches.size());
+        Assertions.assertEquals(10L, matches.get(0).getRequestId());
+        Assertions.assertEquals(5L, matches.get(0).getItem().getId());
+        Assertions.assertFalse(notifier.poll(REQUESTER_ID, matches.get(0).getSequence()).isDone());
+        Assertions.assertEquals(matches, notifier.poll(REQUESTER_ID, 0).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void pollReturnsEmptyListAfterTimeout() throws Exception {
+        RequestMatchNotifier shortPollNotifier = new RequestMatchNotifier(Duration.ofMillis(50), Duration.ofHours(1));
+
+        Assertions.assertTrue(shortPollNotifier.poll(REQUESTER_ID, 0).get(1, TimeUnit.SECONDS).isEmpty());
+    }
+
+    private ItemDto item(String name, String description, Long requestId) {
+        return ItemDto.builder()
+                .id(5L)
+                .name(name)
+                .description(description)
+                .available(true)
+                .requestId(requestId)
+                .build();
+    }
+}
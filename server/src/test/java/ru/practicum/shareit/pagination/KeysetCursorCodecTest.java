@@ -0,0 +1,52 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestCursor;
+import ru.practicum.shareit.user.dto.UserCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+class KeysetCursorCodecTest {
+
+    @Test
+    void cursorsSurviveRoundTrip() {
+        LocalDateTime moment = LocalDateTime.of(2023, 3, 14, 15, 9, 26, 535_000);
+
+        BookingCursor booking = BookingCursor.decode(new BookingCursor(moment, 42L).encode());
+        ItemRequestCursor request = ItemRequestCursor.decode(new ItemRequestCursor(moment, 7L).encode());
+
+        Assertions.assertEquals(moment, booking.getStart());
+        Assertions.assertEquals(42L, booking.getId());
+        Assertions.assertEquals(moment, request.getCreated());
+        Assertions.assertEquals(7L, request.getId());
+        Assertions.assertEquals(15L, UserCursor.decode(new UserCursor(15L).encode()).getId());
+    }
+
+    @Test
+    void keepsTokenFormat() {
+        Assertions.assertEquals("MQ", new UserCursor(1L).encode());
+        Assertions.assertEquals(token("2023-03-14T15:09_5"),
+                new BookingCursor(LocalDateTime.of(2023, 3, 14, 15, 9), 5L).encode());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String token : List.of("wrong!", token("2023-03-14T15:09"), token("2023-03-14T15:09_5_6"),
+                token("yesterday_5"), token("2023-03-14T15:09_x"))) {
+            Assertions.assertThrows(BadRequestException.class, () -> BookingCursor.decode(token), token);
+            Assertions.assertThrows(BadRequestException.class, () -> ItemRequestCursor.decode(token), token);
+        }
+        Assertions.assertThrows(BadRequestException.class, () -> UserCursor.decode(token("1_2")));
+        Assertions.assertThrows(BadRequestException.class, () -> UserCursor.decode(token("x")));
+    }
+
+    private static String token(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -11,19 +12,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserPageDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 @WebMvcTest(UserController.class)
@@ -44,19 +51,76 @@ class UserControllerMockTest {
 
     @Test
     void getAll() throws Exception {
-        List<UserDto> users = List.of(UserMapper.toUserDto(user));
+        mockStreamAll(UserMapper.toUserDto(user), UserMapper.toUserDto(user));
 
-        Mockito.when(userService.getAll())
-                .thenReturn(users);
-
-        mockMvc.perform(get("/users")
+        MvcResult result = mockMvc.perform(get("/users")
                         .characterEncoding(StandardCharsets.UTF_8)
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].email", Matchers.is(user.getEmail())));
+
+        Mockito.verify(userService, Mockito.times(1)).streamAll(any());
+    }
+
+    @Test
+    void getAllAsNdjson() throws Exception {
+        mockStreamAll(UserMapper.toUserDto(user), UserMapper.toUserDto(new User(1, "name", "other@mail.ru")));
+
+        MvcResult result = mockMvc.perform(get("/users")
+                        .accept(UserController.APPLICATION_NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(UserController.APPLICATION_NDJSON_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+                .split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(1L, objectMapper.readValue(lines[1], UserDto.class).getId());
+    }
+
+    @Test
+    void getPage() throws Exception {
+        Mockito.when(userService.getPage("", 1))
+                .thenReturn(UserPageDto.builder()
+                        .users(List.of(UserMapper.toUserDto(user)))
+                        .nextCursor("MQ")
+                        .build());
+
+        mockMvc.perform(get("/users?cursor=&size=1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.NEXT_CURSOR_HEADER, "MQ"))
+                .andExpect(jsonPath("$", Matchers.hasSize(1)));
+
+        Mockito.verify(userService, Mockito.never()).streamAll(any());
+    }
+
+    @Test
+    void getPageByCursorWithoutSize() throws Exception {
+        Mockito.when(userService.getPage("MQ", 10))
+                .thenReturn(UserPageDto.builder()
+                        .users(List.of(UserMapper.toUserDto(user)))
+                        .build());
+
+        mockMvc.perform(get("/users?cursor=MQ")
+                        .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(UserController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$", Matchers.hasSize(1)));
 
-        Mockito.verify(userService, Mockito.times(1)).getAll();
+        Mockito.verify(userService, Mockito.never()).streamAll(any());
     }
 
     @Test
@@ -127,4 +191,15 @@ class UserControllerMockTest {
                 )
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private void mockStreamAll(UserDto... users) {
+        Mockito.when(userService.streamAll(any())).thenAnswer(invocation -> {
+            Consumer<UserDto> action = invocation.getArgument(0);
+            for (UserDto userDto : users) {
+                action.accept(userDto);
+            }
+            return (long) users.length;
+        });
+    }
+}
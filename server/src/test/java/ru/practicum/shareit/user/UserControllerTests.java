@@ -4,12 +4,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.DataNotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
@@ -42,6 +48,18 @@ class UserControllerTests {
         assertEquals(userDto.getEmail(), userController.getById(1L).getEmail());
     }
 
+    @Test
+    void getByIdAfterUpdateAndDeleteTest() {
+        UserDto created = userController.create(UserMapper.toUser(user));
+        assertEquals(user.getEmail(), userController.getById(created.getId()).getEmail());
+
+        userController.update(UserMapper.toUser(user.toBuilder().email("update@email.com").build()), created.getId());
+        assertEquals("update@email.com", userController.getById(created.getId()).getEmail());
+
+        userController.delete(created.getId());
+        assertThrows(DataNotFoundException.class, () -> userController.getById(created.getId()));
+    }
+
     @Test
     void updateByWrongUserTest() {
         assertThrows(DataNotFoundException.class, () -> userController.update(UserMapper.toUser(user), 1L));
@@ -50,9 +68,27 @@ class UserControllerTests {
     @Test
     void deleteTest() {
         UserDto userDto = userController.create(UserMapper.toUser(user));
-        assertEquals(1, userController.getAll().size());
+        assertEquals(1, userController.getPage(0, 10).getBody().size());
         userController.delete(userDto.getId());
-        assertEquals(0, userController.getAll().size());
+        assertEquals(0, userController.getPage(0, 10).getBody().size());
+    }
+
+    @Test
+    void getPageWithCursorTest() {
+        for (int i = 0; i < 3; i++) {
+            userController.create(UserMapper.toUser(user.toBuilder().email(i + user.getEmail()).build()));
+        }
+
+        ResponseEntity<List<UserDto>> firstPage = userController.getPageByCursor("", 2);
+        String cursor = firstPage.getHeaders().getFirst(UserController.NEXT_CURSOR_HEADER);
+        assertEquals(2, firstPage.getBody().size());
+        assertNotNull(cursor);
+
+        ResponseEntity<List<UserDto>> secondPage = userController.getPageByCursor(cursor, 2);
+        assertEquals(1, secondPage.getBody().size());
+        assertEquals(3L, secondPage.getBody().get(0).getId());
+        assertNull(secondPage.getHeaders().getFirst(UserController.NEXT_CURSOR_HEADER));
+        assertThrows(BadRequestException.class, () -> userController.getPageByCursor("wrong", 2));
     }
 
     @Test
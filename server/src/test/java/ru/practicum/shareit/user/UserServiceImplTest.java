@@ -12,6 +12,7 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -91,7 +92,7 @@ class UserServiceImplTest {
                 .email("user1@yandex.ru")
                 .build();
         userService.create(UserMapper.toUser(userCreateDto));
-        List<UserDto> users = userService.getAll();
+        List<UserDto> users = userService.getAll(0, 10);
 
         assertThat(users)
                 .hasSize(2)
@@ -103,11 +104,22 @@ class UserServiceImplTest {
     @Order(5)
     void deleteByIdTest() {
         userService.delete(1L);
-        List<UserDto> users = userService.getAll();
+        List<UserDto> users = userService.getAll(0, 10);
 
         assertThat(users)
                 .hasSize(1)
                 .map(UserDto::getId)
                 .contains(2L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(6)
+    void streamAllTest() {
+        List<UserDto> users = new ArrayList<>();
+
+        assertThat(userService.streamAll(users::add)).isEqualTo(1);
+        assertThat(users)
+                .map(UserDto::getId)
+                .containsExactly(2L);
+    }
+}
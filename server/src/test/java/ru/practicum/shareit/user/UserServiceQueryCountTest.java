@@ -0,0 +1,81 @@
+package ru.practicum.shareit.user;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.exceptions.DataNotFoundException;
+import ru.practicum.shareit.user.cache.UserCache;
+import ru.practicum.shareit.user.cache.UserChangedEvent;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import javax.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserServiceImpl.class, UserCache.class})
+class UserServiceQueryCountTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void init() {
+        user = em.persist(new User(0, "user", "user@mail.com"));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        UserDto first = userService.getById(user.getId());
+        userService.checkExists(user.getId());
+        UserDto second = userService.getById(user.getId());
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(user.getEmail(), second.getEmail());
+    }
+
+    @Test
+    void changedUserIsLoadedAgain() {
+        userService.checkExists(user.getId());
+        userCache.onUserChanged(new UserChangedEvent(user.getId()));
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userService.checkExists(user.getId());
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        Long missingId = user.getId() + 1;
+
+        Assertions.assertThrows(DataNotFoundException.class, () -> userService.checkExists(missingId));
+        User created = em.persistAndFlush(new User(0, "other", "other@mail.com"));
+        Assertions.assertEquals(created.getEmail(), userService.getById(created.getId()).getEmail());
+    }
+}